@@ -0,0 +1,79 @@
+// 단건 등록(POST /create) vs 대량 등록(POST /bulk-create) 쓰기 처리량 비교
+//
+// 1) 대상 인스턴스 기동 (Mongo replica set, 매 실행 전 같은 상태로)
+//    ./gradlew bootRun --args='--spring.profiles.active=dev --server.port=8080'
+// 2) 실행 (같은 POSTS, VUS 로 MODE 만 바꿔 두 번)
+//    k6 run -e BASE_URL=http://localhost:8080 -e MODE=single --summary-export=single.json perf/post-bulk-create-load.js
+//    k6 run -e BASE_URL=http://localhost:8080 -e MODE=bulk -e BATCH=500 --summary-export=bulk.json perf/post-bulk-create-load.js
+// 3) posts_created 의 rate(초당 등록 게시글 수)와 http_req_duration 을 비교한다.
+//    서버 측은 /actuator/metrics/post.outbox.lag, post.outbox.pending 으로 이벤트 발행이 따라오는지 함께 본다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'single';
+const POSTS = parseInt(__ENV.POSTS || '100000', 10);
+const BATCH = parseInt(__ENV.BATCH || '500', 10);
+const VUS = parseInt(__ENV.VUS || '50', 10);
+const MAIN_CATEGORY_ID = parseInt(__ENV.MAIN_CATEGORY_ID || '1', 10);
+const SUB_CATEGORY_ID = parseInt(__ENV.SUB_CATEGORY_ID || '2', 10);
+const CONTENTS = '질문 본문입니다. '.repeat(60);
+
+const postsCreated = new Counter('posts_created');
+
+export const options = {
+    discardResponseBodies: MODE === 'single',
+    scenarios: {
+        create: {
+            executor: 'shared-iterations',
+            vus: VUS,
+            iterations: MODE === 'bulk' ? Math.ceil(POSTS / BATCH) : POSTS,
+            maxDuration: '30m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: MODE },
+};
+
+function post(i) {
+    return {
+        mainCategoryId: MAIN_CATEGORY_ID,
+        subCategoryId: SUB_CATEGORY_ID,
+        title: `부하 테스트 질문 ${__VU}-${i}`,
+        contents: CONTENTS,
+    };
+}
+
+const params = {
+    headers: { 'Content-Type': 'application/json', 'X-Member-UUID': 'perf-member' },
+};
+
+export default function () {
+    if (MODE === 'bulk') {
+        const posts = [];
+        for (let i = 0; i < BATCH; i++) {
+            posts.push(post(`${__ITER}-${i}`));
+        }
+        const res = http.post(`${BASE_URL}/api/v1/post/bulk-create`, JSON.stringify({ posts }), {
+            ...params,
+            tags: { name: 'bulk-create' },
+        });
+        check(res, { 'status is 200': (r) => r.status === 200 });
+        if (res.status === 200) {
+            postsCreated.add(res.json('result.createdCount'));
+        }
+        return;
+    }
+
+    const res = http.post(`${BASE_URL}/api/v1/post/create`, JSON.stringify(post(__ITER)), {
+        ...params,
+        tags: { name: 'create' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+    if (res.status === 200) {
+        postsCreated.add(1);
+    }
+}
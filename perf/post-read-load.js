@@ -0,0 +1,65 @@
+// servlet(Tomcat, platform thread) vs virtual(Tomcat, virtual thread) vs reactive(WebFlux) 게시글 조회 부하 비교
+//
+// 1) 대상 인스턴스 기동 (같은 Mongo 데이터, server.port 고정)
+//    servlet : ./gradlew bootRun --args='--spring.profiles.active=dev --server.port=8080'
+//    virtual : ./gradlew bootRun --args='--spring.profiles.active=dev,virtual --server.port=8080'
+//    reactive: ./gradlew bootRun --args='--spring.profiles.active=dev,reactive --server.port=8080'
+// 2) 실행 (POST_UUIDS 는 존재하는 게시글 UUID 를 콤마로 구분, MAIN_CATEGORY_ID 는 게시글이 있는 카테고리)
+//    k6 run -e BASE_URL=http://localhost:8080 -e POST_UUIDS=... -e MAIN_CATEGORY_ID=1 \
+//           -e STACK=servlet --summary-export=servlet.json perf/post-read-load.js
+//    (STACK=virtual / STACK=reactive 로 바꿔 같은 방식으로 반복)
+// 3) 두 결과의 http_req_duration p95/p99, http_reqs(rate), http_req_failed 와
+//    서버 측 /actuator/metrics/jvm.threads.live, process.cpu.usage 를 같은 VU 단계에서 비교한다.
+//    virtual 은 hikaricp.connections.pending, mongodb.driver.pool.waitqueuesize 와
+//    post.threads.virtual.pinned (pinning 발생 지점별) 도 함께 본다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const POST_UUIDS = (__ENV.POST_UUIDS || '').split(',').filter((uuid) => uuid.length > 0);
+const MAIN_CATEGORY_ID = __ENV.MAIN_CATEGORY_ID || '1';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '2000', 10);
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 250 },
+                { duration: '1m', target: 1000 },
+                { duration: '2m', target: MAX_VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { stack: __ENV.STACK || 'unknown' },
+};
+
+function randomPostUuid() {
+    return POST_UUIDS[Math.floor(Math.random() * POST_UUIDS.length)];
+}
+
+export default function () {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.5) {
+        res = http.get(`${BASE_URL}/api/v1/post/${randomPostUuid()}`, { tags: { name: 'info' } });
+    } else if (roll < 0.7) {
+        res = http.get(`${BASE_URL}/api/v1/post/${randomPostUuid()}/detail`, { tags: { name: 'detail' } });
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/api/v1/post/list/main/${MAIN_CATEGORY_ID}?size=20`, { tags: { name: 'feed' } });
+    } else {
+        const body = JSON.stringify({ postUuids: [randomPostUuid(), randomPostUuid(), randomPostUuid()] });
+        res = http.post(`${BASE_URL}/api/v1/post/batch`, body, {
+            headers: { 'Content-Type': 'application/json' },
+            tags: { name: 'batch' },
+        });
+    }
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,7 @@
+package com.example.post_service.category.application;
+
+/**
+ * 메인/서브 카테고리, 카테고리 리스트가 바뀌었을 때 발행 (커밋 후 CategorySnapshotHolder 가 스냅샷을 다시 만든다)
+ */
+public record CategoryChangedEvent() {
+}
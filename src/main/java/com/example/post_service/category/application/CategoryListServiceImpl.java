@@ -11,6 +11,7 @@ import com.example.post_service.category.infrastructure.SubCategoryRepository;
 import com.example.post_service.common.exception.BaseException;
 import com.example.post_service.common.response.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +27,7 @@ public class CategoryListServiceImpl implements CategoryListService {
     private final MainCategoryRepository mainCategoryRepository;
     private final SubCategoryRepository subCategoryRepository;
     private final CategoryListRepository categoryListRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     @Override
@@ -47,6 +49,7 @@ public class CategoryListServiceImpl implements CategoryListService {
         CategoryList categoryList = dto.of(mainCategory, subCategory);
 
         categoryListRepository.save(categoryList);
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Override
@@ -61,6 +64,7 @@ public class CategoryListServiceImpl implements CategoryListService {
     @Override
     public void deleteCategoryList(Long id) {
         categoryListRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Override
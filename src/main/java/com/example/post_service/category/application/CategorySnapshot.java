@@ -0,0 +1,39 @@
+package com.example.post_service.category.application;
+
+import com.example.post_service.category.dto.out.MainCategoryResDto;
+import com.example.post_service.category.dto.out.MainCategoryWithSubCategoriesResDto;
+import com.example.post_service.category.dto.out.SimpleSubCategoryResDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 모델 전체의 불변 스냅샷 (CategorySnapshotHolder 가 통째로 교체한다)
+ * 자주 호출되는 목록 응답은 BaseResponseEntity JSON 으로 미리 인코딩해 두고 strong ETag 를 붙인다.
+ *
+ * @param subCategoriesByMainCategoryId 메인 카테고리 ID -> 소속 서브 카테고리 (중복 제거, 등록 순서)
+ */
+public record CategorySnapshot(
+        List<MainCategoryResDto> mainCategories,
+        List<MainCategoryWithSubCategoriesResDto> mainCategoriesWithSubCategories,
+        Map<Long, List<SimpleSubCategoryResDto>> subCategoriesByMainCategoryId,
+        EncodedResponse mainCategoriesResponse,
+        EncodedResponse mainCategoriesWithSubCategoriesResponse
+) {
+
+    public CategorySnapshot {
+        mainCategories = List.copyOf(mainCategories);
+        mainCategoriesWithSubCategories = List.copyOf(mainCategoriesWithSubCategories);
+        subCategoriesByMainCategoryId = Map.copyOf(subCategoriesByMainCategoryId);
+    }
+
+    public List<SimpleSubCategoryResDto> subCategoriesOf(Long mainCategoryId) {
+        return subCategoriesByMainCategoryId.getOrDefault(mainCategoryId, List.of());
+    }
+
+    /**
+     * 응답 본문 바이트와 그 ETag (여러 요청이 공유하므로 body 는 수정하지 않는다)
+     */
+    public record EncodedResponse(byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.post_service.category.application;
+
+import com.example.post_service.category.dto.out.MainCategoryResDto;
+import com.example.post_service.category.dto.out.MainCategoryWithSubCategoriesResDto;
+import com.example.post_service.category.dto.out.SimpleSubCategoryResDto;
+import com.example.post_service.category.entity.CategoryList;
+import com.example.post_service.category.entity.MainCategory;
+import com.example.post_service.category.infrastructure.CategoryListRepository;
+import com.example.post_service.category.infrastructure.MainCategoryRepository;
+import com.example.post_service.category.vo.out.MainCategoryResVo;
+import com.example.post_service.category.vo.out.MainCategoryWithSubCategoriesResVo;
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 스냅샷 보관 (한 달에 몇 번 바뀌는 데이터를 앱 실행마다 조회하지 않도록)
+ * - 첫 조회 때 만들고, 이 인스턴스에서 카테고리가 바뀌면 커밋 후 다시 만든다. (CategoryChangedEvent)
+ * - 다른 인스턴스에서 바뀐 것은 refresh-interval 마다 다시 만들어 반영한다. 내용이 같으면(ETag 동일) 교체하지 않는다.
+ * 읽는 쪽은 volatile 참조 하나만 읽으므로 만드는 동안에도 이전 스냅샷을 그대로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotHolder {
+
+    private final MainCategoryRepository mainCategoryRepository;
+    private final CategoryListRepository categoryListRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile CategorySnapshot snapshot;
+
+    public CategorySnapshot get() {
+        CategorySnapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${post.category.snapshot.refresh-interval:PT1M}",
+            fixedDelayString = "${post.category.snapshot.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+        if (snapshot != null) {
+            rebuild();
+        }
+    }
+
+    synchronized CategorySnapshot rebuild() {
+        List<MainCategory> mainCategories = mainCategoryRepository.findAll();
+        List<CategoryList> categoryLists = categoryListRepository.findAll();
+
+        CategorySnapshot next = build(mainCategories, categoryLists);
+        CategorySnapshot current = snapshot;
+        if (current != null && current.mainCategoriesWithSubCategoriesResponse().etag()
+                .equals(next.mainCategoriesWithSubCategoriesResponse().etag())
+                && current.mainCategoriesResponse().etag().equals(next.mainCategoriesResponse().etag())) {
+            return current;
+        }
+        snapshot = next;
+        log.info("Category snapshot rebuilt (mainCategories={}, categoryLists={}, etag={})",
+                mainCategories.size(), categoryLists.size(), next.mainCategoriesWithSubCategoriesResponse().etag());
+        return next;
+    }
+
+    private CategorySnapshot build(List<MainCategory> mainCategories, List<CategoryList> categoryLists) {
+        Map<Long, List<CategoryList>> categoryListMap = categoryLists.stream()
+                .collect(Collectors.groupingBy(CategoryList::getMainCategoryId));
+
+        List<MainCategoryResDto> mainCategoryDtos = mainCategories.stream()
+                .map(MainCategoryResDto::from)
+                .toList();
+
+        List<MainCategoryWithSubCategoriesResDto> withSubCategories = mainCategories.stream()
+                .map(mainCategory -> MainCategoryWithSubCategoriesResDto.builder()
+                        .mainCategoryId(mainCategory.getId())
+                        .mainCategoryName(mainCategory.getName())
+                        .iconUrl(mainCategory.getIconUrl())
+                        .alt(mainCategory.getAlt())
+                        .subCategories(categoryListMap.getOrDefault(mainCategory.getId(), List.of()).stream()
+                                .map(categoryList -> MainCategoryWithSubCategoriesResDto.SubCategoryDto.builder()
+                                        .subCategoryId(categoryList.getSubCategoryId())
+                                        .subCategoryName(categoryList.getSubCategoryName())
+                                        .color(categoryList.getSubCategoryColor())
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+
+        Map<Long, List<SimpleSubCategoryResDto>> subCategoriesByMainCategoryId = new LinkedHashMap<>();
+        categoryListMap.forEach((mainCategoryId, lists) -> subCategoriesByMainCategoryId.put(mainCategoryId, lists.stream()
+                .collect(Collectors.toMap(
+                        CategoryList::getSubCategoryId,
+                        c -> new SimpleSubCategoryResDto(c.getSubCategoryId(), c.getSubCategoryName(), c.getSubCategoryColor()),
+                        (a, b) -> a,
+                        LinkedHashMap::new))
+                .values()
+                .stream()
+                .toList()));
+
+        return new CategorySnapshot(
+                mainCategoryDtos,
+                withSubCategories,
+                subCategoriesByMainCategoryId,
+                encode(mainCategoryDtos.stream().map(MainCategoryResDto::toVo).toList()),
+                encode(withSubCategories.stream().map(MainCategoryWithSubCategoriesResVo::from).toList()));
+    }
+
+    // 컨트롤러가 BaseResponseEntity 를 반환할 때와 같은 JSON
+    private CategorySnapshot.EncodedResponse encode(List<?> result) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new BaseResponseEntity<>(result));
+            return new CategorySnapshot.EncodedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode category snapshot", e);
+        }
+    }
+}
@@ -23,4 +23,9 @@ public interface MainCategoryService {
 
     List<MainCategoryWithSubCategoriesResDto> getAllMainCategoriesWithSubCategories();
 
+    /**
+     * 미리 인코딩된 목록 응답(ETag 포함)을 쓰려는 컨트롤러용
+     */
+    CategorySnapshot getCategorySnapshot();
+
 }
@@ -4,19 +4,16 @@ import com.example.post_service.category.dto.in.MainCategoryReqDto;
 import com.example.post_service.category.dto.out.MainCategoryResDto;
 import com.example.post_service.category.dto.out.MainCategoryWithSubCategoriesResDto;
 import com.example.post_service.category.dto.out.SimpleSubCategoryResDto;
-import com.example.post_service.category.entity.CategoryList;
 import com.example.post_service.category.entity.MainCategory;
-import com.example.post_service.category.infrastructure.CategoryListRepository;
 import com.example.post_service.category.infrastructure.MainCategoryRepository;
 import com.example.post_service.common.exception.BaseException;
 import com.example.post_service.common.response.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,20 +21,19 @@ import java.util.stream.Collectors;
 public class MainCategoryServiceImpl implements MainCategoryService {
 
     private final MainCategoryRepository mainCategoryRepository;
-    private final CategoryListRepository categoryListRepository;
+    private final CategorySnapshotHolder categorySnapshotHolder;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     @Override
     public void createMainCategory(MainCategoryReqDto mainCategoryReqDto) {
         mainCategoryRepository.save(mainCategoryReqDto.toEntity());
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Override
     public List<MainCategoryResDto> getAllMainCategory() {
-        return mainCategoryRepository.findAll()
-                .stream()
-                .map(MainCategoryResDto::from)
-                .toList();
+        return categorySnapshotHolder.get().mainCategories();
     }
 
     @Override
@@ -54,6 +50,7 @@ public class MainCategoryServiceImpl implements MainCategoryService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.CATEGORY_NOT_FOUND));
 
         mainCategory.updateName(dto.getMainCategoryName());
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Transactional
@@ -64,56 +61,21 @@ public class MainCategoryServiceImpl implements MainCategoryService {
         );
 
         mainCategoryRepository.delete(mainCategory);
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Override
     public List<SimpleSubCategoryResDto> getSubCategoriesByMainCategoryId(Long mainCategoryId) {
-        List<CategoryList> list = categoryListRepository.findAllByMainCategoryId(mainCategoryId);
-
-        return list.stream()
-                .collect(Collectors.toMap(
-                        CategoryList::getSubCategoryId,
-                        c -> new SimpleSubCategoryResDto(
-                                c.getSubCategoryId(), c.getSubCategoryName(), c.getSubCategoryColor()),
-                        (a, b) -> a
-                ))
-                .values()
-                .stream()
-                .toList();
+        return categorySnapshotHolder.get().subCategoriesOf(mainCategoryId);
     }
 
     @Override
     public List<MainCategoryWithSubCategoriesResDto> getAllMainCategoriesWithSubCategories() {
-        // 모든 메인 카테고리 조회
-        List<MainCategory> mainCategories = mainCategoryRepository.findAll();
-
-        // 모든 카테고리 리스트 조회
-        List<CategoryList> allCategoryLists = categoryListRepository.findAll();
-
-        // 메인 카테고리 ID별로 서브카테고리 그룹화
-        Map<Long, List<CategoryList>> categoryListMap = allCategoryLists.stream()
-                .collect(Collectors.groupingBy(CategoryList::getMainCategoryId));
-
-        return mainCategories.stream()
-                .map(mainCategory -> {
-                    List<CategoryList> categoryLists = categoryListMap.getOrDefault(mainCategory.getId(), List.of());
-
-                    List<MainCategoryWithSubCategoriesResDto.SubCategoryDto> subCategoryDtos = categoryLists.stream()
-                            .map(categoryList -> MainCategoryWithSubCategoriesResDto.SubCategoryDto.builder()
-                                    .subCategoryId(categoryList.getSubCategoryId())
-                                    .subCategoryName(categoryList.getSubCategoryName())
-                                    .color(categoryList.getSubCategoryColor())
-                                    .build())
-                            .toList();
+        return categorySnapshotHolder.get().mainCategoriesWithSubCategories();
+    }
 
-                    return MainCategoryWithSubCategoriesResDto.builder()
-                            .mainCategoryId(mainCategory.getId())
-                            .mainCategoryName(mainCategory.getName())
-                            .iconUrl(mainCategory.getIconUrl())
-                            .alt(mainCategory.getAlt())
-                            .subCategories(subCategoryDtos)
-                            .build();
-                })
-                .toList();
+    @Override
+    public CategorySnapshot getCategorySnapshot() {
+        return categorySnapshotHolder.get();
     }
 }
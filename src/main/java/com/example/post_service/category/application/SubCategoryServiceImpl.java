@@ -7,6 +7,7 @@ import com.example.post_service.category.infrastructure.SubCategoryRepository;
 import com.example.post_service.common.exception.BaseException;
 import com.example.post_service.common.response.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +19,13 @@ import java.util.List;
 public class SubCategoryServiceImpl implements SubCategoryService {
 
     private final SubCategoryRepository subCategoryRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     @Override
     public void createSubCategory(SubCategoryReqDto subCategoryReqDto) {
         subCategoryRepository.save(subCategoryReqDto.toEntity());
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Override
@@ -47,6 +50,7 @@ public class SubCategoryServiceImpl implements SubCategoryService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.CATEGORY_NOT_FOUND));
 
         subCategory.updateName(dto.getSubCategoryName());
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 
     @Transactional
@@ -57,5 +61,6 @@ public class SubCategoryServiceImpl implements SubCategoryService {
         );
 
         subCategoryRepository.delete(subCategory);
+        applicationEventPublisher.publishEvent(new CategoryChangedEvent());
     }
 }
@@ -1,17 +1,19 @@
 package com.example.post_service.category.presentation;
 
+import com.example.post_service.category.application.CategorySnapshot;
 import com.example.post_service.category.application.MainCategoryService;
 import com.example.post_service.category.dto.in.MainCategoryReqDto;
-import com.example.post_service.category.dto.out.MainCategoryResDto;
 import com.example.post_service.category.dto.out.SimpleSubCategoryResDto;
 import com.example.post_service.category.vo.in.MainCategoryReqVo;
 import com.example.post_service.category.vo.out.MainCategoryResVo;
-import com.example.post_service.category.vo.out.MainCategoryWithSubCategoriesResVo;
 import com.example.post_service.common.entity.BaseResponseEntity;
 import com.example.post_service.common.response.BaseResponseStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/category")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MainCategoryController {
 
     private final MainCategoryService mainCategoryService;
@@ -33,12 +36,8 @@ public class MainCategoryController {
 
     @Operation(summary = "메인 카테고리 전체 조회")
     @GetMapping("/main")
-    public BaseResponseEntity<List<MainCategoryResVo>> getAllMainCategory() {
-        return new BaseResponseEntity<>(
-                mainCategoryService.getAllMainCategory()
-                        .stream()
-                        .map(MainCategoryResDto::toVo)
-                        .toList());
+    public ResponseEntity<byte[]> getAllMainCategory() {
+        return encoded(mainCategoryService.getCategorySnapshot().mainCategoriesResponse());
     }
 
     @Operation(summary = "메인 카테고리 단건 조회")
@@ -85,15 +84,20 @@ public class MainCategoryController {
             - mainCategoryId, mainCategoryName, subCategories: [{id, name, ...}]
 
             [처리 로직]
-            - 모든 메인 카테고리를 조회한 뒤, 각각의 하위 카테고리를 포함하여 반환합니다.
+            - 카테고리 스냅샷에 미리 인코딩해 둔 응답을 반환합니다. (카테고리가 바뀔 때 다시 만듦)
+            - ETag 를 함께 내려주며, If-None-Match 가 일치하면 본문 없이 304 를 반환합니다.
         """
     )
     @GetMapping("/main/with-subcategories")
-    public BaseResponseEntity<List<MainCategoryWithSubCategoriesResVo>> getAllMainCategoriesWithSubCategories() {
-        return new BaseResponseEntity<>(
-                mainCategoryService.getAllMainCategoriesWithSubCategories()
-                        .stream()
-                        .map(MainCategoryWithSubCategoriesResVo::from)
-                        .toList());
+    public ResponseEntity<byte[]> getAllMainCategoriesWithSubCategories() {
+        return encoded(mainCategoryService.getCategorySnapshot().mainCategoriesWithSubCategoriesResponse());
+    }
+
+    // If-None-Match 가 ETag 와 같으면 HttpEntityMethodProcessor(WebFlux: ResponseEntityResultHandler) 가 304 로 바꾼다.
+    static ResponseEntity<byte[]> encoded(CategorySnapshot.EncodedResponse response) {
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 }
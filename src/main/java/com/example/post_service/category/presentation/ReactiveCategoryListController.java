@@ -0,0 +1,75 @@
+package com.example.post_service.category.presentation;
+
+import com.example.post_service.category.application.CategoryListServiceImpl;
+import com.example.post_service.category.dto.in.CategoryListReqDto;
+import com.example.post_service.category.dto.out.CategoryListResDto;
+import com.example.post_service.category.vo.in.CategoryListReqVo;
+import com.example.post_service.category.vo.out.CategoryListResVo;
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.example.post_service.common.response.BaseResponseStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * reactive 프로파일(WebFlux)용 CategoryListController
+ * 카테고리 서비스는 JPA(blocking)라 event loop 대신 boundedElastic 에서 호출한다.
+ */
+@Tag(name = "CategoryList", description = "CategoryList 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/category-list")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCategoryListController {
+
+    private final CategoryListServiceImpl categoryListService;
+
+    @Operation(summary = "카테고리 리스트 생성")
+    @PostMapping
+    public Mono<BaseResponseEntity<Void>> createCategoryList(@RequestBody CategoryListReqVo categoryListReqVo) {
+        return Mono.fromRunnable(() -> categoryListService.createCategoryList(CategoryListReqDto.from(categoryListReqVo)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "카테고리 리스트 전체 조회")
+    @GetMapping
+    public Mono<BaseResponseEntity<List<CategoryListResVo>>> getAllCategoryList() {
+        return Mono.fromCallable(categoryListService::getAllMainCategory)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(categoryLists -> categoryLists.stream()
+                        .map(CategoryListResDto::toVo)
+                        .toList())
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "카테고리 리스트 단건 조회")
+    @GetMapping("/{id}")
+    public Mono<BaseResponseEntity<CategoryListResDto>> getCategoryList(@PathVariable Long id) {
+        return Mono.fromCallable(() -> categoryListService.getCategoryList(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "카테고리 리스트 삭제")
+    @DeleteMapping("/{id}")
+    public Mono<BaseResponseEntity<Void>> deleteCategoryList(@PathVariable Long id) {
+        return Mono.fromRunnable(() -> categoryListService.deleteCategoryList(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "메인 카테고리 ID에 해당하는 하위 categoryList 조회")
+    @GetMapping("/main/{id}")
+    public Mono<BaseResponseEntity<List<CategoryListResDto>>> getCategoryListByMainCategory(@PathVariable Long id) {
+        return Mono.fromCallable(() -> categoryListService.getAllCategoryListByMainCategory(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(BaseResponseEntity::new);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.post_service.category.presentation;
+
+import com.example.post_service.category.application.MainCategoryService;
+import com.example.post_service.category.dto.in.MainCategoryReqDto;
+import com.example.post_service.category.dto.out.SimpleSubCategoryResDto;
+import com.example.post_service.category.vo.in.MainCategoryReqVo;
+import com.example.post_service.category.vo.out.MainCategoryResVo;
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.example.post_service.common.response.BaseResponseStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * reactive 프로파일(WebFlux)용 MainCategoryController
+ * 카테고리 서비스는 JPA(blocking)라 event loop 대신 boundedElastic 에서 호출한다.
+ * 스냅샷 응답은 메모리에 있는 값이라 그대로 반환한다.
+ */
+@Tag(name = "MainCategory", description = "MainCategory 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/category")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMainCategoryController {
+
+    private final MainCategoryService mainCategoryService;
+
+    @Operation(summary = "메인 카테고리 생성")
+    @PostMapping("/main")
+    public Mono<BaseResponseEntity<Void>> createMainCategory(@RequestBody MainCategoryReqVo mainCategoryReqVo) {
+        return Mono.fromRunnable(() -> mainCategoryService.createMainCategory(MainCategoryReqDto.from(mainCategoryReqVo)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "메인 카테고리 전체 조회")
+    @GetMapping("/main")
+    public ResponseEntity<byte[]> getAllMainCategory() {
+        return MainCategoryController.encoded(mainCategoryService.getCategorySnapshot().mainCategoriesResponse());
+    }
+
+    @Operation(summary = "메인 카테고리 단건 조회")
+    @GetMapping("/main/{id}")
+    public Mono<BaseResponseEntity<MainCategoryResVo>> getMainCategory(
+            @PathVariable Long id
+    ) {
+        return Mono.fromCallable(() -> mainCategoryService.getMainCategoryById(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(MainCategoryResVo::of)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "메인 카테고리 수정")
+    @PutMapping("/main/{id}")
+    public Mono<BaseResponseEntity<Void>> updateMainCategory(
+            @PathVariable Long id,
+            @RequestBody MainCategoryReqVo mainCategoryReqVo
+    ) {
+        return Mono.fromRunnable(() -> mainCategoryService.updateMainCategory(id, MainCategoryReqDto.from(mainCategoryReqVo)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "메인 카테고리 삭제")
+    @DeleteMapping("/main/{id}")
+    public Mono<BaseResponseEntity<Void>> deleteMainCategory(@PathVariable Long id) {
+        return Mono.fromRunnable(() -> mainCategoryService.deleteMainCategory(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "메인 카테고리에 속한 서브 카테고리 전체 조회")
+    @GetMapping("/main/{id}/sub-categories")
+    public Mono<BaseResponseEntity<List<SimpleSubCategoryResDto>>> getSubCategoriesByMainCategoryId(@PathVariable Long id) {
+        return Mono.fromCallable(() -> mainCategoryService.getSubCategoriesByMainCategoryId(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(BaseResponseEntity::new);
+    }
+
+    // MainCategoryController#getAllMainCategoriesWithSubCategories 참고
+    @Operation(summary = "메인 카테고리 + 서브카테고리 목록 조회")
+    @GetMapping("/main/with-subcategories")
+    public ResponseEntity<byte[]> getAllMainCategoriesWithSubCategories() {
+        return MainCategoryController.encoded(
+                mainCategoryService.getCategorySnapshot().mainCategoriesWithSubCategoriesResponse());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.post_service.category.presentation;
+
+import com.example.post_service.category.application.SubCategoryService;
+import com.example.post_service.category.dto.in.SubCategoryReqDto;
+import com.example.post_service.category.dto.out.SubCategoryResDto;
+import com.example.post_service.category.vo.in.SubCategoryReqVo;
+import com.example.post_service.category.vo.out.SubCategoryResVo;
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.example.post_service.common.response.BaseResponseStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * reactive 프로파일(WebFlux)용 SubCategoryController
+ * 카테고리 서비스는 JPA(blocking)라 event loop 대신 boundedElastic 에서 호출한다.
+ */
+@Tag(name = "SubCategory", description = "SubCategory 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/category")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSubCategoryController {
+
+    private final SubCategoryService subCategoryService;
+
+    @Operation(summary = "서브 카테고리 생성")
+    @PostMapping("/sub")
+    public Mono<BaseResponseEntity<Void>> createSubCategory(@RequestBody SubCategoryReqVo vo) {
+        return Mono.fromRunnable(() -> subCategoryService.createSubCategory(SubCategoryReqDto.from(vo)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "서브 카테고리 전체 조회")
+    @GetMapping("/sub")
+    public Mono<BaseResponseEntity<List<SubCategoryResVo>>> getAllSubCategory() {
+        return Mono.fromCallable(subCategoryService::getAllSubCategory)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(subCategories -> subCategories.stream()
+                        .map(SubCategoryResDto::toVo)
+                        .toList())
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "서브 카테고리 단건 조회")
+    @GetMapping("/sub/{id}")
+    public Mono<BaseResponseEntity<SubCategoryResVo>> getSubCategory(
+            @PathVariable Long id
+    ) {
+        return Mono.fromCallable(() -> subCategoryService.getSubCategoryById(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(SubCategoryResVo::of)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "서브 카테고리 수정")
+    @PutMapping("/sub/{id}")
+    public Mono<BaseResponseEntity<Void>> updateSubCategory(
+            @PathVariable Long id,
+            @RequestBody SubCategoryReqVo subCategoryReqVo
+    ) {
+        return Mono.fromRunnable(() -> subCategoryService.updateSubCategory(id, SubCategoryReqDto.from(subCategoryReqVo)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "서브 카테고리 삭제")
+    @DeleteMapping("/sub/{id}")
+    public Mono<BaseResponseEntity<Void>> deleteSubCategory(@PathVariable Long id) {
+        return Mono.fromRunnable(() -> subCategoryService.deleteSubCategory(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+}
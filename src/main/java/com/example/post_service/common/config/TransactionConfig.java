@@ -0,0 +1,50 @@
+package com.example.post_service.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * 트랜잭션 매니저
+ * - transactionManager (기본, JPA): 카테고리 서비스의 @Transactional
+ * - mongoTransactionManager: 게시글 쓰기 + outbox insert 를 하나의 Mongo 트랜잭션으로 (replica set 필요)
+ * Mongo 매니저를 등록하면 Boot 의 JPA 매니저 자동 설정이 빠지므로 JPA 매니저도 직접 등록한다.
+ */
+@Configuration
+public class TransactionConfig {
+
+    public static final String MONGO_TRANSACTION_MANAGER = "mongoTransactionManager";
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean(MONGO_TRANSACTION_MANAGER)
+    public MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
+
+    /**
+     * reactive 프로파일: Boot 가 이 매니저로 TransactionalOperator 를 만든다.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveTransactionConfig {
+
+        @Bean
+        public ReactiveMongoTransactionManager reactiveMongoTransactionManager(
+                ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory
+        ) {
+            return new ReactiveMongoTransactionManager(reactiveMongoDatabaseFactory);
+        }
+    }
+}
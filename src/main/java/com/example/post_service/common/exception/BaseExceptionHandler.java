@@ -7,6 +7,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Map;
+
 @RestControllerAdvice
 @Slf4j
 public class BaseExceptionHandler {
@@ -22,6 +24,16 @@ public class BaseExceptionHandler {
         return new ResponseEntity<>(response, response.httpStatus());
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    protected ResponseEntity<BaseResponseEntity<Map<String, Long>>> VersionConflictError(VersionConflictException e) {
+        BaseResponseStatus status = e.getStatus();
+        BaseResponseEntity<Map<String, Long>> response = new BaseResponseEntity<>(
+                status.getHttpStatusCode(), status.isSuccess(), status.getMessage(), status.getCode(),
+                Map.of("currentVersion", e.getCurrentVersion()));
+        log.warn("VersionConflictException -> {}(currentVersion={})", status, e.getCurrentVersion());
+        return new ResponseEntity<>(response, response.httpStatus());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     protected ResponseEntity<BaseResponseEntity<Void>> RuntimeError(RuntimeException e) {
         BaseResponseEntity<Void> response = new BaseResponseEntity<>(BaseResponseStatus.INTERNAL_SERVER_ERROR, e.getMessage());
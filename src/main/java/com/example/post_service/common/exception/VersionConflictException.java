@@ -0,0 +1,19 @@
+package com.example.post_service.common.exception;
+
+import com.example.post_service.common.response.BaseResponseStatus;
+import lombok.Getter;
+
+/**
+ * compare-and-set 수정 실패 (409)
+ * 응답 result 에 현재 버전을 담아 클라이언트가 다시 조회하지 않고 재시도 여부를 판단할 수 있게 한다.
+ */
+@Getter
+public class VersionConflictException extends BaseException {
+
+    private final long currentVersion;
+
+    public VersionConflictException(BaseResponseStatus status, long currentVersion) {
+        super(status);
+        this.currentVersion = currentVersion;
+    }
+}
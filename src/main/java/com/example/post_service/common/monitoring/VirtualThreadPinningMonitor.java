@@ -0,0 +1,114 @@
+package com.example.post_service.common.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread 모드(spring.threads.virtual.enabled=true) 에서 carrier thread pinning 을 수집한다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아
+ * - post.threads.virtual.pinned 타이머 (tag site = 스택에서 첫 번째 애플리케이션/라이브러리 프레임의 클래스)
+ * - site 별 최소 log-interval 간격의 WARN 로그 (상위 프레임 포함)
+ * 로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "post.threads.virtual.pinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final long logIntervalMillis;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${post.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+            @Value("${post.virtual-threads.pinning.log-interval:1m}") Duration logInterval
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.logIntervalMillis = logInterval.toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String site = site(frames);
+
+        Timer.builder(METRIC_NAME)
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        long now = System.currentTimeMillis();
+        Long previous = lastLoggedAt.get(site);
+        if (previous != null && now - previous < logIntervalMillis) {
+            return;
+        }
+        lastLoggedAt.put(site, now);
+        log.warn("Virtual thread pinned for {}ms at {}\n\t{}",
+                event.getDuration().toMillis(), site,
+                frames.stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(this::format)
+                        .collect(Collectors.joining("\n\t")));
+    }
+
+    private List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    // JDK 내부(park, synchronized 진입 등) 프레임을 건너뛰고 pinning 을 일으킨 호출 지점을 찾는다.
+    private String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(type -> !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
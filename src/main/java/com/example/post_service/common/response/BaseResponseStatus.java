@@ -44,6 +44,12 @@ public enum BaseResponseStatus {
     POST_TITLE_TOO_LONG(HttpStatus.BAD_REQUEST, false, 2005, "게시글 제목이 너무 깁니다."),
     INVALID_POST_FORMAT(HttpStatus.BAD_REQUEST, false, 2007, "게시글 형식이 잘못되었습니다."),
     POST_PERMISSION_DENIED(HttpStatus.FORBIDDEN, false, 2008, "게시글에 대한 권한이 없습니다."),
+    POST_BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, false, 2009, "한 번에 조회할 수 있는 게시글 수를 초과하였습니다."),
+    INVALID_POST_CURSOR(HttpStatus.BAD_REQUEST, false, 2010, "유효하지 않은 페이지 커서입니다."),
+    POST_FEED_CATEGORY_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, false, 2011, "한 번에 조회할 수 있는 카테고리 수를 초과하였습니다."),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, false, 2012, "검색어가 비어 있거나 너무 깁니다."),
+    POST_VERSION_CONFLICT(HttpStatus.CONFLICT, false, 2013, "다른 요청이 먼저 게시글을 수정하였습니다. 최신 버전으로 다시 시도해주세요."),
+    POST_BULK_CREATE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, false, 2014, "한 번에 등록할 수 있는 게시글 수를 초과하였습니다."),
 
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, false, 2100, "해당 카테고리를 찾을 수 없습니다."),
     FAILED_TO_CREATE_CATEGORY(HttpStatus.INTERNAL_SERVER_ERROR, false, 2101, "카테고리 생성에 실패하였습니다."),
@@ -1,21 +1,32 @@
 package com.example.post_service.kafka.config;
 
-import com.example.post_service.kafka.event.PostCreatedEvent;
-import com.example.post_service.kafka.event.PostDeletedEvent;
-import com.example.post_service.kafka.event.PostUpdatedEvent;
+import com.example.post_service.kafka.serde.PostEventDeserializer;
+import com.example.post_service.kafka.serde.PostEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @EnableKafka
 @Configuration
@@ -24,43 +35,93 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServer;
 
+    @Value("${post.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${post.kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${post.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${post.kafka.producer.max-block-ms:5000}")
+    private int maxBlockMs;
+
+    // Avro 로 보낼 토픽 (쉼표 구분). 나머지 토픽은 JSON
+    @Value("${post.kafka.avro-topics:}")
+    private Set<String> avroTopics;
+
+    @Value("${post.kafka.consumer.idle-event-interval:30s}")
+    private Duration idleEventInterval;
+
+    /**
+     * 게시글 이벤트(생성/수정/삭제) 공용 producer 설정
+     * - idempotence + acks=all: 재시도해도 파티션 안에서 중복/순서 역전이 없다. (in-flight 5 까지 순서 보장)
+     * - postUuid key + 압축 + linger: 같은 게시글은 같은 파티션, 배치를 키워 요청 수/전송량을 줄인다.
+     * - max.block.ms: send 는 relay 스레드에서 metadata/buffer 를 기다리며 막히므로 relay 리스(lease-ttl)보다 짧게 둔다. (기본 60초)
+     */
     @Bean
     public Map<String, Object> postProducerConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServer);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
         return props;
     }
 
+    /**
+     * 세 이벤트 타입이 producer 하나(버퍼/네트워크 스레드 하나)를 공유한다.
+     * producer 내부 지표(kafka.producer.*: buffer-exhausted, record-error, request-latency 등)도 함께 노출한다.
+     * value 는 토픽별로 Avro/JSON 을 고른다. (PostEventSerializer)
+     */
     @Bean
-    public ProducerFactory<String, PostCreatedEvent> createPostNotification() {
-        return new DefaultKafkaProducerFactory<>(postProducerConfigs());
+    public ProducerFactory<String, Object> postEventProducerFactory(MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(
+                postProducerConfigs(), new StringSerializer(), new PostEventSerializer(avroTopics));
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, PostCreatedEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(createPostNotification());
+    public KafkaTemplate<String, Object> postEventKafkaTemplate(ProducerFactory<String, Object> postEventProducerFactory) {
+        return new KafkaTemplate<>(postEventProducerFactory);
     }
 
+    /**
+     * 게시글 이벤트 재수신용 consumer (캐시 무효화 등 인스턴스 로컬 상태 갱신)
+     * 읽기 시작 위치는 PostEventConsumer 가 timestamp 로 정한다. (latest 는 그 시각 이후 레코드가 없을 때만 쓰인다)
+     * value 는 Avro/JSON 을 자동 판별해 이벤트 객체로 읽고, 읽을 수 없는 레코드는 error handler 로 넘겨 건너뛴다.
+     */
     @Bean
-    public ProducerFactory<String, PostUpdatedEvent> updatePostNotification() {
-        return new DefaultKafkaProducerFactory<>(postProducerConfigs());
-    }
-
-    @Bean
-    public KafkaTemplate<String, PostUpdatedEvent> postUpdateEventKafkaTemplate() {
-        return new KafkaTemplate<>(updatePostNotification());
-    }
-
-    @Bean
-    public ProducerFactory<String, PostDeletedEvent> deletePostNotification() {
-        return new DefaultKafkaProducerFactory<>(postProducerConfigs());
+    public ConsumerFactory<String, Object> postEventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServer);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        return new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new ErrorHandlingDeserializer<>(new PostEventDeserializer()));
     }
 
+    /**
+     * virtual 프로파일(spring.threads.virtual.enabled=true) 에서는 consumer 스레드도 virtual thread 로 띄운다.
+     * (Boot 자동 구성 factory 가 아니므로 직접 지정)
+     */
     @Bean
-    public KafkaTemplate<String, PostDeletedEvent> postDeleteEventKafkaTemplate() {
-        return new KafkaTemplate<>(deletePostNotification());
+    public ConcurrentKafkaListenerContainerFactory<String, Object> postEventListenerContainerFactory(Environment environment) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(postEventConsumerFactory());
+        // PostEventConsumer#onIdleContainer: 끝까지 읽었음을 PostBloomFilter 에 알린다.
+        factory.getContainerProperties().setIdleEventInterval(idleEventInterval.toMillis());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("post-event-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
     }
 
 }
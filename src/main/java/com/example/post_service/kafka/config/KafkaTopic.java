@@ -0,0 +1,11 @@
+package com.example.post_service.kafka.config;
+
+public final class KafkaTopic {
+
+    public static final String POST_CREATE = "post-create-send-read";
+    public static final String POST_UPDATE = "post-update-send-read";
+    public static final String POST_DELETE = "post-delete-send-read";
+
+    private KafkaTopic() {
+    }
+}
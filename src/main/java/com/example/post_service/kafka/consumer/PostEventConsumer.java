@@ -0,0 +1,126 @@
+package com.example.post_service.kafka.consumer;
+
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import com.example.post_service.post.infrastructure.PostBloomFilter;
+import com.example.post_service.post.infrastructure.PostInfoCache;
+import com.example.post_service.post.infrastructure.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자기 자신이 발행한 게시글 이벤트를 다시 수신하여 인스턴스 로컬 상태를 갱신한다.
+ * group-id 는 인스턴스마다 고유하므로 모든 인스턴스가 모든 이벤트를 받는다.
+ * value 는 PostEventDeserializer 가 토픽 형식(Avro/JSON)에 관계없이 이벤트 객체로 읽어 준다.
+ * - partition 을 받으면 마지막으로 처리한 이벤트 시각(처음이면 기동 시각)부터 timestamp 로 다시 읽는다.
+ *   committed offset 이 없는 group 이라 latest 로 시작하면 기동/rebalance 사이의 이벤트를 놓치기 때문이다. (처리는 멱등)
+ * - 생성 이벤트를 어디까지 반영했는지 PostBloomFilter 에 알려, 아직 반영되지 않았을 수 있는 postUuid 는 DB 로 확인하게 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostEventConsumer implements ConsumerSeekAware {
+
+    // 인스턴스 간 시계/발행 순서 차이를 덮기 위해 다시 읽을 때 조금 앞에서 시작한다.
+    private static final long REPLAY_MARGIN_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final PostInfoCache postInfoCache;
+    private final PostBloomFilter postBloomFilter;
+    private final PostSearchIndex postSearchIndex;
+
+    private final long startedAt = System.currentTimeMillis();
+    // partition 별 마지막으로 처리한 이벤트 시각 (회수된 partition 도 다시 받을 때를 위해 남겨 둔다)
+    private final Map<TopicPartition, Long> processedUntil = new ConcurrentHashMap<>();
+    private final Set<TopicPartition> assignedCreatePartitions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : assignments.keySet()) {
+            long resumeAt = processedUntil.getOrDefault(partition, startedAt) - REPLAY_MARGIN_MILLIS;
+            processedUntil.put(partition, resumeAt);
+            callback.seekToTimestamp(partition.topic(), partition.partition(), resumeAt);
+            if (partition.topic().equals(KafkaTopic.POST_CREATE)) {
+                assignedCreatePartitions.add(partition);
+            }
+        }
+        publishCreateWatermark();
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        assignedCreatePartitions.removeAll(partitions);
+        publishCreateWatermark();
+    }
+
+    /**
+     * 새 레코드 없이 idle-event-interval 이 지났으면 모든 partition 의 끝까지 읽은 상태다.
+     */
+    @Override
+    public void onIdleContainer(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        long now = System.currentTimeMillis();
+        assignments.keySet().forEach(partition -> processedUntil.merge(partition, now, Math::max));
+        publishCreateWatermark();
+    }
+
+    @KafkaListener(
+            topics = {KafkaTopic.POST_CREATE, KafkaTopic.POST_UPDATE, KafkaTopic.POST_DELETE},
+            groupId = "${post.cache.invalidation.group-id}",
+            containerFactory = "postEventListenerContainerFactory"
+    )
+    public void consume(ConsumerRecord<String, Object> record) {
+        String postUuid = extractPostUuid(record);
+        if (postUuid == null) {
+            log.warn("postUuid 를 찾을 수 없는 이벤트입니다. topic={}, offset={}", record.topic(), record.offset());
+            return;
+        }
+        switch (record.topic()) {
+            case KafkaTopic.POST_CREATE -> {
+                postBloomFilter.put(postUuid);
+                postSearchIndex.refresh(postUuid);
+                processedUntil.merge(new TopicPartition(record.topic(), record.partition()), record.timestamp(), Math::max);
+                publishCreateWatermark();
+            }
+            case KafkaTopic.POST_UPDATE -> {
+                postInfoCache.evict(postUuid);
+                postSearchIndex.refresh(postUuid);
+            }
+            default -> {
+                postInfoCache.evict(postUuid);
+                postSearchIndex.remove(postUuid);
+            }
+        }
+    }
+
+    // 배정된 생성 이벤트 partition 중 가장 뒤처진 위치. 배정이 없으면 0 (최근 게시글은 모두 DB 로 확인)
+    private void publishCreateWatermark() {
+        postBloomFilter.markDeliveredUntil(assignedCreatePartitions.stream()
+                .mapToLong(partition -> processedUntil.getOrDefault(partition, 0L))
+                .min()
+                .orElse(0L));
+    }
+
+    private String extractPostUuid(ConsumerRecord<String, Object> record) {
+        if (record.key() != null) {
+            return record.key();
+        }
+        return switch (record.value()) {
+            case PostCreatedEvent created -> created.getPostUuid();
+            case PostUpdatedEvent updated -> updated.getPostUuid();
+            case PostDeletedEvent deleted -> deleted.getPostUuid();
+            case null, default -> null;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.post_service.kafka.event;
 
+import com.example.post_service.post.entity.Post;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,6 +24,8 @@ public class PostCreatedEvent {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    private long version;
+
     @Builder
     public PostCreatedEvent(
             String postUuid,
@@ -34,7 +37,8 @@ public class PostCreatedEvent {
             boolean blindStatus,
             boolean deletedStatus,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            long version
     ) {
         this.postUuid = postUuid;
         this.memberUuid = memberUuid;
@@ -46,5 +50,22 @@ public class PostCreatedEvent {
         this.deletedStatus = deletedStatus;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public static PostCreatedEvent from(Post post) {
+        return PostCreatedEvent.builder()
+                .postUuid(post.getPostUuid())
+                .memberUuid(post.getMemberUuid())
+                .mainCategoryId(post.getMainCategoryId())
+                .subCategoryId(post.getSubCategoryId())
+                .title(post.getTitle())
+                .contents(post.getContents())
+                .blindStatus(post.isBlindStatus())
+                .deletedStatus(post.isDeletedStatus())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .version(post.getCurrentVersion())
+                .build();
     }
 }
@@ -2,13 +2,17 @@ package com.example.post_service.kafka.event;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 public class PostDeletedEvent  {
     private final String postUuid;
+    private final long version;
 
     @Builder
-    public PostDeletedEvent(String postUuid) {
+    @Jacksonized
+    public PostDeletedEvent(String postUuid, long version) {
         this.postUuid = postUuid;
+        this.version = version;
     }
 }
@@ -6,6 +6,12 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 게시글 수정 이벤트 (변경분만)
+ * - title / contents / mainCategoryId / subCategoryId 는 이번 수정에서 바뀐 필드만 채우고 나머지는 null
+ * - 바뀐 contents 가 claim-check 기준보다 크면 contents 대신 contentsRef(조회 경로)와 contentsSize(UTF-8 바이트)를 보낸다.
+ *   contentsRef 는 GET /api/v1/post/{postUuid}/contents?version={version} 이며, 그 사이 다시 수정되었으면 409 로 최신 버전을 알려준다.
+ */
 @Getter
 @NoArgsConstructor
 public class PostUpdatedEvent {
@@ -17,15 +23,18 @@ public class PostUpdatedEvent {
     private String title;
     private String contents;
 
-    private boolean blindStatus;
-    private boolean deletedStatus;
+    private String contentsRef;
+    private Integer contentsSize;
 
     private LocalDateTime updatedAt;
 
+    // 게시글 version. 같은 postUuid 에 대해 이미 처리한 version 이하의 이벤트는 버려도 된다.
+    private long version;
+
     @Builder
     public PostUpdatedEvent(
             String postUuid, String memberUuid, Long mainCategoryId, Long subCategoryId, String title, String contents,
-            boolean blindStatus, boolean deletedStatus, LocalDateTime updatedAt
+            String contentsRef, Integer contentsSize, LocalDateTime updatedAt, long version
     ) {
         this.postUuid = postUuid;
         this.memberUuid = memberUuid;
@@ -33,8 +42,9 @@ public class PostUpdatedEvent {
         this.subCategoryId = subCategoryId;
         this.title = title;
         this.contents = contents;
-        this.blindStatus = blindStatus;
-        this.deletedStatus = deletedStatus;
+        this.contentsRef = contentsRef;
+        this.contentsSize = contentsSize;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 }
@@ -0,0 +1,101 @@
+package com.example.post_service.kafka.event;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContentsCodec;
+import com.example.post_service.post.infrastructure.PostChanges;
+import com.example.post_service.post.infrastructure.PostUpdateResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 수정 전 문서(updated.before)와 요청한 변경분(changes)을 비교해, 실제로 값이 바뀐 필드만 담은 PostUpdatedEvent 를 만든다.
+ * 요청에 있더라도 저장된 값과 같으면 바뀌지 않은 것으로 본다.
+ * 전체 게시글을 다시 보냈을 때 대비 줄인 바이트를 post.event.update.saved (reason) 로 남긴다.
+ * - unchanged: 요청에 없거나 저장된 값과 같아서 뺀 title/contents (수정 전 저장 크기 기준)
+ * - claim-check: 기준보다 커서 contentsRef 로 대신한 contents
+ */
+@Component
+public class PostUpdatedEventFactory {
+
+    private static final String SAVED_METRIC = "post.event.update.saved";
+
+    private final int claimCheckThreshold;
+    private final DistributionSummary unchangedSaved;
+    private final DistributionSummary claimCheckSaved;
+
+    public PostUpdatedEventFactory(
+            @Value("${post.event.claim-check-threshold:16KB}") DataSize claimCheckThreshold,
+            MeterRegistry meterRegistry
+    ) {
+        this.claimCheckThreshold = (int) claimCheckThreshold.toBytes();
+        this.unchangedSaved = savedSummary("unchanged", meterRegistry);
+        this.claimCheckSaved = savedSummary("claim-check", meterRegistry);
+    }
+
+    public PostUpdatedEvent create(PostUpdateResult updated, PostChanges changes) {
+        Post before = updated.before();
+        PostUpdatedEvent.PostUpdatedEventBuilder builder = PostUpdatedEvent.builder()
+                .postUuid(before.getPostUuid())
+                .memberUuid(before.getMemberUuid())
+                .mainCategoryId(changedOrNull(changes.mainCategoryId(), before.getMainCategoryId()))
+                .subCategoryId(changedOrNull(changes.subCategoryId(), before.getSubCategoryId()))
+                .updatedAt(updated.updatedAt())
+                .version(updated.version());
+
+        long unchanged = 0;
+        String title = changedOrNull(changes.title(), before.getTitle());
+        if (title != null) {
+            builder.title(title);
+        } else {
+            unchanged += PostContentsCodec.utf8Length(before.getTitle());
+        }
+
+        String contents = changedOrNull(changes.contents(), before.getContents());
+        if (contents == null) {
+            unchanged += storedContentsSize(before);
+        } else {
+            int contentsSize = PostContentsCodec.utf8Length(contents);
+            if (contentsSize > claimCheckThreshold) {
+                builder.contentsRef(contentsRef(before.getPostUuid(), updated.version()))
+                        .contentsSize(contentsSize);
+                claimCheckSaved.record(contentsSize);
+            } else {
+                builder.contents(contents);
+            }
+        }
+        if (unchanged > 0) {
+            unchangedSaved.record(unchanged);
+        }
+        return builder.build();
+    }
+
+    // 요청에 있고 저장된 값과 다를 때만 값을, 아니면 null (= 이벤트에서 뺌)
+    private static <T> T changedOrNull(T requested, T stored) {
+        return requested == null || requested.equals(stored) ? null : requested;
+    }
+
+    // 본문을 풀거나 post_contents 에서 읽지 않고 크기만 구한다.
+    private static int storedContentsSize(Post post) {
+        if (post.isContentsOffloaded()) {
+            return post.getOffloadedContentsSize();
+        }
+        return post.isContentsCompressed()
+                ? PostContentsCodec.decodedLength(post.getCompressedContents())
+                : PostContentsCodec.utf8Length(post.getContents());
+    }
+
+    private static String contentsRef(String postUuid, long version) {
+        return "/api/v1/post/" + postUuid + "/contents?version=" + version;
+    }
+
+    private static DistributionSummary savedSummary(String reason, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(SAVED_METRIC)
+                .description("전체 게시글 대비 수정 이벤트에서 줄인 바이트")
+                .baseUnit("bytes")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
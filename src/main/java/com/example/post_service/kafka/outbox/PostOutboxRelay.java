@@ -0,0 +1,296 @@
+package com.example.post_service.kafka.outbox;
+
+import com.example.post_service.kafka.producer.PostKafkaProducer;
+import com.example.post_service.post.entity.PostOutbox;
+import com.example.post_service.post.infrastructure.PostOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * post_outbox 를 polling 하여 Kafka 로 보낸다. (at-least-once)
+ * - 리스를 가진 인스턴스 하나만 relay 한다.
+ * - 게시글 단위로 version 순서대로 이어서 보내고(앞 이벤트 ack 후 다음 이벤트), 실패하면 그 게시글의 나머지는 다음 주기로 넘긴다.
+ *   다른 게시글끼리는 동시에 보낸다.
+ * - ack 받은 outbox 만 삭제한다. send-timeout 이 지나면 체인에서 아직 시작하지 않은 전송은 멈추고,
+ *   이미 보낸 전송이 모두 끝날 때까지(producer 의 delivery.timeout 이내) 새 배치를 읽지 않는다.
+ *   늦게 도착한 ack 는 그때 삭제하므로, 같은 이벤트를 다시 보내거나 게시글 안에서 순서가 뒤바뀌지 않는다.
+ *   (ack 를 받고 삭제 전에 죽는 경우의 중복은 남으므로 consumer 는 여전히 version 으로 걸러야 한다.)
+ *   남은 전송을 기다리는 동안은 backoff 중에도 매 주기 리스를 갱신한다.
+ * - 배치 하나는 send-timeout 안에 보내기 시작한 것만 기다린다. send 가 막히는 시간은 producer 의 max.block.ms 까지이므로
+ *   send-timeout + max.block.ms 가 lease-ttl 보다 짧아야 한다.
+ * - 한 번에 batch-size 건씩, 가득 찬 배치가 나오는 동안은 쉬지 않고 이어서 비운다.
+ * - 실패 처리
+ *   - 일시적 실패(RetriableException: 브로커/리더 없음, 타임아웃, buffer 부족 등): outbox 에 그대로 두고
+ *     relay 주기를 지수적으로 늘려(max-backoff 까지) 재시도한다.
+ *   - 영구 실패(직렬화, 레코드 크기 초과 등): attempts 를 올리고 max-attempts 에 이르면 dead letter 로 옮긴다.
+ *     dead letter 로 빠진 게시글의 다음 이벤트는 이후 정상 발행된다. (consumer 는 version 으로 누락을 알 수 있음)
+ */
+@Slf4j
+@Component
+public class PostOutboxRelay {
+
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostKafkaProducer postKafkaProducer;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration leaseTtl;
+    private final Duration relayInterval;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private int consecutiveFailures;
+    private long backoffUntil;
+    private InFlightBatch inFlight;
+
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+
+    public PostOutboxRelay(
+            PostOutboxRepository postOutboxRepository,
+            PostKafkaProducer postKafkaProducer,
+            @Value("${post.outbox.batch-size:500}") int batchSize,
+            @Value("${post.outbox.send-timeout:PT5S}") Duration sendTimeout,
+            @Value("${post.outbox.lease-ttl:PT15S}") Duration leaseTtl,
+            @Value("${post.outbox.relay-interval:PT0.2S}") Duration relayInterval,
+            @Value("${post.outbox.max-backoff:PT30S}") Duration maxBackoff,
+            @Value("${post.outbox.max-attempts:3}") int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        this.postOutboxRepository = postOutboxRepository;
+        this.postKafkaProducer = postKafkaProducer;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.leaseTtl = leaseTtl;
+        this.relayInterval = relayInterval;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+
+        this.relayedCounter = Counter.builder("post.outbox.relayed")
+                .description("Kafka ack 를 받고 outbox 에서 삭제한 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("post.outbox.relay.failed")
+                .description("전송 실패/타임아웃으로 다음 주기로 넘긴 이벤트 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("post.outbox.dead.lettered")
+                .description("영구 실패로 post_outbox_dead_letter 로 옮긴 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("post.outbox.relay.batch")
+                .description("배치 하나를 보내고 ack 를 기다려 삭제하기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미전송 outbox 의 경과 시간 (마지막 relay 시점)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("post.outbox.pending", pending, AtomicLong::get)
+                .description("outbox 적재 건수 (estimated)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${post.outbox.relay-interval:PT0.2S}")
+    public void relay() {
+        try {
+            // backoff 중에도 남은 전송이 있으면 리스를 갱신해야 하므로 backoff 보다 먼저 확인한다.
+            if (!finishInFlight() || System.currentTimeMillis() < backoffUntil) {
+                return;
+            }
+            boolean fullBatch = true;
+            while (fullBatch && postOutboxRepository.tryAcquireRelayLease(instanceId, leaseTtl)) {
+                List<PostOutbox> batch = postOutboxRepository.findRelayBatch(batchSize);
+                recordBacklog(batch);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                int delivered = batchTimer.record(() -> relayBatch(batch));
+                fullBatch = batch.size() == batchSize && delivered == batch.size();
+            }
+        } catch (RuntimeException e) {
+            log.error("Post outbox relay failed", e);
+        }
+    }
+
+    private int relayBatch(List<PostOutbox> batch) {
+        Queue<String> deliveredIds = new ConcurrentLinkedQueue<>();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<CompletableFuture<?>> chains = new ArrayList<>();
+        for (List<PostOutbox> postEvents : groupByPost(batch)) {
+            CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+            for (PostOutbox outbox : postEvents) {
+                chain = chain.thenCompose(previous -> {
+                    // 타임아웃 이후에는 다음 이벤트를 보내지 않는다. (outbox 에 남아 다음 배치에서 순서대로 보냄)
+                    // send 는 metadata/buffer 를 기다리며 max.block.ms 까지 막힐 수 있으므로 보내는 중에도 기한을 본다.
+                    if (abandoned.get() || System.nanoTime() - deadline >= 0) {
+                        return CompletableFuture.failedFuture(new CancellationException("relay batch timed out"));
+                    }
+                    return postKafkaProducer.send(outbox.getPostUuid(), outbox.getEvent())
+                            .whenComplete((result, ex) -> {
+                                if (ex == null) {
+                                    deliveredIds.add(outbox.getId());
+                                } else {
+                                    failures.put(outbox.getId(), ex);
+                                }
+                            });
+                });
+            }
+            chains.add(chain);
+        }
+
+        CompletableFuture<Void> sends = CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new));
+        boolean completed = awaitAll(sends, deadline);
+        if (!completed) {
+            abandoned.set(true);
+            inFlight = new InFlightBatch(sends, deliveredIds);
+        }
+
+        int delivered = deleteDelivered(deliveredIds);
+        if (delivered < batch.size()) {
+            failedCounter.increment(batch.size() - delivered);
+        }
+        handleFailures(failures, !completed);
+        return delivered;
+    }
+
+    /**
+     * 타임아웃된 이전 배치의 전송이 아직 남아 있으면 false (리스만 유지하고 이번 주기는 건너뜀)
+     * 모두 끝났으면 늦게 ack 된 outbox 를 삭제하고 true
+     */
+    private boolean finishInFlight() {
+        if (inFlight == null) {
+            return true;
+        }
+        if (!inFlight.sends().isDone()) {
+            // 다른 인스턴스가 리스를 가져가 같은 이벤트를 다시 보내지 않도록
+            postOutboxRepository.tryAcquireRelayLease(instanceId, leaseTtl);
+            return false;
+        }
+        int lateAcks = deleteDelivered(inFlight.deliveredIds());
+        inFlight = null;
+        if (lateAcks > 0) {
+            log.info("Post outbox relay: deleted {} events acknowledged after send-timeout", lateAcks);
+        }
+        return true;
+    }
+
+    // 아직 삭제하지 않은 ack 받은 outbox 를 삭제한다.
+    private int deleteDelivered(Queue<String> deliveredIds) {
+        List<String> ids = new ArrayList<>();
+        for (String id = deliveredIds.poll(); id != null; id = deliveredIds.poll()) {
+            ids.add(id);
+        }
+        if (!ids.isEmpty()) {
+            postOutboxRepository.deleteAllById(ids);
+        }
+        relayedCounter.increment(ids.size());
+        return ids.size();
+    }
+
+    /**
+     * 영구 실패만 attempts 를 세고, 일시적 실패나 ack 타임아웃이 있으면 relay 주기를 늘린다.
+     */
+    private void handleFailures(Map<String, Throwable> failures, boolean timedOut) {
+        boolean retriable = timedOut;
+        for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+            Throwable ex = failure.getValue();
+            if (PostKafkaProducer.hasCause(ex, RetriableException.class)) {
+                retriable = true;
+                continue;
+            }
+            String outboxId = failure.getKey();
+            int attempts = postOutboxRepository.recordFailure(outboxId, ex.toString());
+            if (attempts >= maxAttempts) {
+                postOutboxRepository.moveToDeadLetter(outboxId);
+                deadLetterCounter.increment();
+                log.error("Post outbox event moved to dead letter: id={}, attempts={}", outboxId, attempts, ex);
+            }
+        }
+        if (retriable) {
+            consecutiveFailures++;
+            // 남은 전송이 있으면 backoff 가 끝난 뒤 바로 이어받을 수 있게 리스 TTL 보다 짧게 쉰다.
+            long maxBackoffMillis = inFlight == null
+                    ? maxBackoff.toMillis()
+                    : Math.min(maxBackoff.toMillis(), leaseTtl.toMillis() / 2);
+            long backoffMillis = Math.min(maxBackoffMillis,
+                    relayInterval.toMillis() << Math.min(consecutiveFailures, 20));
+            backoffUntil = System.currentTimeMillis() + backoffMillis;
+            log.warn("Post outbox relay backing off for {}ms (consecutive failures={})", backoffMillis, consecutiveFailures);
+        } else {
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * _id 순서를 유지하되 같은 게시글 안에서는 version 순으로 정렬
+     * (여러 인스턴스의 ObjectId 는 시계 차이로 역전될 수 있지만 version 은 게시글 안에서 단조 증가)
+     */
+    private List<List<PostOutbox>> groupByPost(List<PostOutbox> batch) {
+        Map<String, List<PostOutbox>> byPost = new LinkedHashMap<>();
+        for (PostOutbox outbox : batch) {
+            byPost.computeIfAbsent(outbox.getPostUuid(), key -> new ArrayList<>()).add(outbox);
+        }
+        byPost.values().forEach(events -> events.sort(Comparator.comparingLong(PostOutbox::getVersion)));
+        return List.copyOf(byPost.values());
+    }
+
+    /**
+     * @return send-timeout 안에 모든 체인이 (성공이든 실패든) 끝났는지
+     */
+    private boolean awaitAll(CompletableFuture<Void> sends, long deadline) {
+        try {
+            sends.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            log.warn("Post outbox relay: some events were not acknowledged", e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Post outbox relay: timed out waiting for acknowledgements after {}", sendTimeout);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private void recordBacklog(List<PostOutbox> batch) {
+        pending.set(postOutboxRepository.estimatedCount());
+        lagMillis.set(batch.isEmpty()
+                ? 0
+                : Math.max(0, Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+
+    /**
+     * send-timeout 안에 끝나지 않은 배치 (sends: 모든 체인, deliveredIds: ack 받았지만 아직 삭제하지 않은 outbox)
+     */
+    private record InFlightBatch(CompletableFuture<Void> sends, Queue<String> deliveredIds) {
+    }
+}
@@ -1,40 +1,134 @@
 package com.example.post_service.kafka.producer;
 
+import com.example.post_service.kafka.config.KafkaTopic;
 import com.example.post_service.kafka.event.PostCreatedEvent;
 import com.example.post_service.kafka.event.PostDeletedEvent;
 import com.example.post_service.kafka.event.PostUpdatedEvent;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.BufferExhaustedException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * PostOutboxRelay 전용. 서비스는 Kafka 로 직접 보내지 않고 outbox 에 기록한다.
+ * 같은 게시글의 이벤트가 같은 파티션으로 가도록 postUuid 를 key 로 보낸다.
+ * send 는 브로커 ack 를 기다리지 않고 future 를 반환하며, 지표는 완료 콜백에서 기록한다.
+ * - post.kafka.send (topic, result): ack 까지 걸린 시간 histogram, result 별 count 가 성공/실패 수
+ * - post.kafka.send.in.flight: ack 를 기다리는 레코드 수
+ * - post.kafka.send.size (topic): 직렬화된 value 크기
+ * - post.kafka.send.buffer.exhausted (topic): buffer.memory 가 가득 차 max.block.ms 안에 적재하지 못한 횟수
+ * 토픽이 고정되어 있으므로 meter 는 생성 시 토픽/결과별로 한 번 등록하고 콜백에서는 기록만 한다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class PostKafkaProducer {
 
-    private final KafkaTemplate<String, PostCreatedEvent> postKafkaTemplate;
-    private final KafkaTemplate<String, PostUpdatedEvent> postUpdateKafkaTemplate;
-    private final KafkaTemplate<String, PostDeletedEvent> postDeleteKafkaTemplate;
+    private static final String SEND_METRIC = "post.kafka.send";
 
-    public void sendPostEvent(PostCreatedEvent postCreatedEvent) {
-        log.info("Sending PostEvent: {}", postCreatedEvent);
-        CompletableFuture<SendResult<String, PostCreatedEvent>> future = postKafkaTemplate.send(
-                "post-create-send-read", postCreatedEvent);
+    private final KafkaTemplate<String, Object> postEventKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, TopicMeters> topicMeters;
+
+    public PostKafkaProducer(KafkaTemplate<String, Object> postEventKafkaTemplate, MeterRegistry meterRegistry) {
+        this.postEventKafkaTemplate = postEventKafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(SEND_METRIC + ".in.flight", inFlight, AtomicInteger::get)
+                .description("ack 를 기다리는 게시글 이벤트 수")
+                .register(meterRegistry);
+        this.topicMeters = Map.of(
+                KafkaTopic.POST_CREATE, TopicMeters.register(KafkaTopic.POST_CREATE, meterRegistry),
+                KafkaTopic.POST_UPDATE, TopicMeters.register(KafkaTopic.POST_UPDATE, meterRegistry),
+                KafkaTopic.POST_DELETE, TopicMeters.register(KafkaTopic.POST_DELETE, meterRegistry));
+    }
+
+    public CompletableFuture<?> send(String postUuid, Object event) {
+        String topic = topicOf(event);
+        if (topic == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Unknown post event type: " + event.getClass().getName()));
+        }
+        log.debug("Sending post event: topic={}, key={}", topic, postUuid);
+        TopicMeters meters = topicMeters.get(topic);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = postEventKafkaTemplate.send(topic, postUuid, event);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, ex) -> {
+            inFlight.decrementAndGet();
+            if (ex != null) {
+                sample.stop(meters.failure());
+                recordFailure(meters, topic, postUuid, ex);
+            } else {
+                sample.stop(meters.success());
+                meters.size().record(result.getRecordMetadata().serializedValueSize());
+            }
+        });
+    }
+
+    private void recordFailure(TopicMeters meters, String topic, String postUuid, Throwable ex) {
+        if (hasCause(ex, BufferExhaustedException.class)) {
+            meters.bufferExhausted().increment();
+        }
+        log.warn("Post event send failed: topic={}, key={}, cause={}", topic, postUuid, ex.toString());
+    }
+
+    private record TopicMeters(Timer success, Timer failure, DistributionSummary size, Counter bufferExhausted) {
+
+        static TopicMeters register(String topic, MeterRegistry meterRegistry) {
+            return new TopicMeters(
+                    sendTimer(topic, "success", meterRegistry),
+                    sendTimer(topic, "failure", meterRegistry),
+                    DistributionSummary.builder(SEND_METRIC + ".size")
+                            .description("게시글 이벤트 직렬화 크기")
+                            .baseUnit("bytes")
+                            .tag("topic", topic)
+                            .register(meterRegistry),
+                    Counter.builder(SEND_METRIC + ".buffer.exhausted")
+                            .tag("topic", topic)
+                            .register(meterRegistry));
+        }
+
+        private static Timer sendTimer(String topic, String result, MeterRegistry meterRegistry) {
+            return Timer.builder(SEND_METRIC)
+                    .description("게시글 이벤트 send 부터 브로커 ack 까지")
+                    .tag("topic", topic)
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
     }
 
-    public void sendUpdatePostEvent(PostUpdatedEvent postUpdatedEvent) {
-        log.info("Sending Post Update Event: {}", postUpdatedEvent);
-        CompletableFuture<SendResult<String, PostUpdatedEvent>> future = postUpdateKafkaTemplate.send(
-                "post-update-send-read", postUpdatedEvent);
+    public static String topicOf(Object event) {
+        return switch (event) {
+            case PostCreatedEvent created -> KafkaTopic.POST_CREATE;
+            case PostUpdatedEvent updated -> KafkaTopic.POST_UPDATE;
+            case PostDeletedEvent deleted -> KafkaTopic.POST_DELETE;
+            default -> null;
+        };
     }
 
-    public void sendDeletePostEvent(PostDeletedEvent postDeletedEvent) {
-        log.info("Sending Post Update Event: {}", postDeletedEvent);
-        CompletableFuture<SendResult<String, PostDeletedEvent>> future = postDeleteKafkaTemplate.send(
-                "post-delete-send-read", postDeletedEvent);
+    public static boolean hasCause(Throwable ex, Class<? extends Throwable> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
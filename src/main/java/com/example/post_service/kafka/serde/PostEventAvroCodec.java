@@ -0,0 +1,187 @@
+package com.example.post_service.kafka.serde;
+
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 게시글 이벤트 Avro 인코딩 (src/main/resources/avro/*.avsc)
+ * Avro single-object encoding 을 쓴다: 매직(0xC3 0x01) + writer 스키마 fingerprint(CRC-64-AVRO 8바이트) + binary body.
+ * fingerprint 가 스키마 id 역할을 하므로 별도 schema registry 없이도 consumer 가 writer 스키마를 찾을 수 있다.
+ * 스키마를 바꿀 때는 이전 스키마 파일을 남겨 decoder 에 addSchema 해야 이전 메시지를 읽을 수 있다.
+ * LocalDateTime 은 local-timestamp-millis(zone 없는 epoch millis) 로 보낸다.
+ * 인코더/디코더는 thread-safe 이다.
+ */
+public class PostEventAvroCodec {
+
+    private static final byte MAGIC_0 = (byte) 0xC3;
+    private static final byte MAGIC_1 = (byte) 0x01;
+
+    private final Schema createdSchema = load("post-created-event.avsc");
+    private final Schema updatedSchema = load("post-updated-event.avsc");
+    private final Schema deletedSchema = load("post-deleted-event.avsc");
+
+    private final BinaryMessageEncoder<GenericRecord> createdEncoder = new BinaryMessageEncoder<>(GenericData.get(), createdSchema);
+    private final BinaryMessageEncoder<GenericRecord> updatedEncoder = new BinaryMessageEncoder<>(GenericData.get(), updatedSchema);
+    private final BinaryMessageEncoder<GenericRecord> deletedEncoder = new BinaryMessageEncoder<>(GenericData.get(), deletedSchema);
+
+    private final BinaryMessageDecoder<GenericRecord> createdDecoder = new BinaryMessageDecoder<>(GenericData.get(), createdSchema);
+    private final BinaryMessageDecoder<GenericRecord> updatedDecoder = new BinaryMessageDecoder<>(GenericData.get(), updatedSchema);
+    private final BinaryMessageDecoder<GenericRecord> deletedDecoder = new BinaryMessageDecoder<>(GenericData.get(), deletedSchema);
+
+    public PostEventAvroCodec() {
+        // 이전 writer 스키마: 전체 필드를 보내던 수정 이벤트
+        updatedDecoder.addSchema(load("post-updated-event-v1.avsc"));
+    }
+
+    /**
+     * single-object encoding 헤더로 Avro 메시지인지 판별 (JSON 은 '{' 로 시작)
+     */
+    public static boolean isAvro(byte[] data) {
+        return data != null && data.length > 2 && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    public byte[] encode(Object event) {
+        try {
+            return switch (event) {
+                case PostCreatedEvent created -> createdEncoder.encode(toRecord(created)).array();
+                case PostUpdatedEvent updated -> updatedEncoder.encode(toRecord(updated)).array();
+                case PostDeletedEvent deleted -> deletedEncoder.encode(toRecord(deleted)).array();
+                default -> throw new SerializationException("Unknown post event type: " + event.getClass().getName());
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Post event Avro encoding failed", e);
+        }
+    }
+
+    public Object decode(String topic, byte[] data) {
+        try {
+            return switch (topic) {
+                case KafkaTopic.POST_CREATE -> toCreatedEvent(createdDecoder.decode(data));
+                case KafkaTopic.POST_UPDATE -> toUpdatedEvent(updatedDecoder.decode(data));
+                case KafkaTopic.POST_DELETE -> toDeletedEvent(deletedDecoder.decode(data));
+                default -> throw new SerializationException("Unknown post event topic: " + topic);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Post event Avro decoding failed: topic=" + topic, e);
+        }
+    }
+
+    private GenericRecord toRecord(PostCreatedEvent event) {
+        GenericData.Record record = new GenericData.Record(createdSchema);
+        record.put("postUuid", event.getPostUuid());
+        record.put("memberUuid", event.getMemberUuid());
+        record.put("mainCategoryId", event.getMainCategoryId());
+        record.put("subCategoryId", event.getSubCategoryId());
+        record.put("title", event.getTitle());
+        record.put("contents", event.getContents());
+        record.put("blindStatus", event.isBlindStatus());
+        record.put("deletedStatus", event.isDeletedStatus());
+        record.put("createdAt", toMillis(event.getCreatedAt()));
+        record.put("updatedAt", toMillis(event.getUpdatedAt()));
+        record.put("version", event.getVersion());
+        return record;
+    }
+
+    private GenericRecord toRecord(PostUpdatedEvent event) {
+        GenericData.Record record = new GenericData.Record(updatedSchema);
+        record.put("postUuid", event.getPostUuid());
+        record.put("memberUuid", event.getMemberUuid());
+        record.put("mainCategoryId", event.getMainCategoryId());
+        record.put("subCategoryId", event.getSubCategoryId());
+        record.put("title", event.getTitle());
+        record.put("contents", event.getContents());
+        record.put("contentsRef", event.getContentsRef());
+        record.put("contentsSize", event.getContentsSize());
+        record.put("updatedAt", toMillis(event.getUpdatedAt()));
+        record.put("version", event.getVersion());
+        return record;
+    }
+
+    private GenericRecord toRecord(PostDeletedEvent event) {
+        GenericData.Record record = new GenericData.Record(deletedSchema);
+        record.put("postUuid", event.getPostUuid());
+        record.put("version", event.getVersion());
+        return record;
+    }
+
+    private PostCreatedEvent toCreatedEvent(GenericRecord record) {
+        return PostCreatedEvent.builder()
+                .postUuid(string(record, "postUuid"))
+                .memberUuid(string(record, "memberUuid"))
+                .mainCategoryId((Long) record.get("mainCategoryId"))
+                .subCategoryId((Long) record.get("subCategoryId"))
+                .title(string(record, "title"))
+                .contents(string(record, "contents"))
+                .blindStatus((Boolean) record.get("blindStatus"))
+                .deletedStatus((Boolean) record.get("deletedStatus"))
+                .createdAt(dateTime(record, "createdAt"))
+                .updatedAt(dateTime(record, "updatedAt"))
+                .version((Long) record.get("version"))
+                .build();
+    }
+
+    private PostUpdatedEvent toUpdatedEvent(GenericRecord record) {
+        return PostUpdatedEvent.builder()
+                .postUuid(string(record, "postUuid"))
+                .memberUuid(string(record, "memberUuid"))
+                .mainCategoryId((Long) record.get("mainCategoryId"))
+                .subCategoryId((Long) record.get("subCategoryId"))
+                .title(string(record, "title"))
+                .contents(string(record, "contents"))
+                .contentsRef(string(record, "contentsRef"))
+                .contentsSize((Integer) record.get("contentsSize"))
+                .updatedAt(dateTime(record, "updatedAt"))
+                .version((Long) record.get("version"))
+                .build();
+    }
+
+    private PostDeletedEvent toDeletedEvent(GenericRecord record) {
+        return PostDeletedEvent.builder()
+                .postUuid(string(record, "postUuid"))
+                .version((Long) record.get("version"))
+                .build();
+    }
+
+    // generic reader 는 문자열을 Utf8 로 돌려준다.
+    private static String string(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    private static Long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime dateTime(GenericRecord record, String field) {
+        Long millis = (Long) record.get(field);
+        return millis == null
+                ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static Schema load(String fileName) {
+        try (InputStream in = PostEventAvroCodec.class.getResourceAsStream("/avro/" + fileName)) {
+            if (in == null) {
+                throw new IllegalStateException("Avro schema not found: " + fileName);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.post_service.kafka.serde;
+
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * 게시글 이벤트를 토픽에 맞는 이벤트 객체로 읽는다.
+ * Avro 매직으로 시작하면 Avro(writer 스키마는 fingerprint 로 찾음), 아니면 JSON 으로 본다.
+ * JSON 의 타입 헤더(__TypeId__)는 보지 않고 토픽으로 타입을 정한다.
+ */
+public class PostEventDeserializer implements Deserializer<Object> {
+
+    private final PostEventAvroCodec avroCodec = new PostEventAvroCodec();
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (PostEventAvroCodec.isAvro(data)) {
+            return avroCodec.decode(topic, data);
+        }
+        try {
+            return objectMapper.readValue(data, eventType(topic));
+        } catch (IOException e) {
+            throw new SerializationException("Post event JSON decoding failed: topic=" + topic, e);
+        }
+    }
+
+    private Class<?> eventType(String topic) {
+        return switch (topic) {
+            case KafkaTopic.POST_CREATE -> PostCreatedEvent.class;
+            case KafkaTopic.POST_UPDATE -> PostUpdatedEvent.class;
+            case KafkaTopic.POST_DELETE -> PostDeletedEvent.class;
+            default -> throw new SerializationException("Unknown post event topic: " + topic);
+        };
+    }
+}
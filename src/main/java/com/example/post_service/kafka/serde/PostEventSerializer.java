@@ -0,0 +1,51 @@
+package com.example.post_service.kafka.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토픽별로 게시글 이벤트 인코딩을 고른다.
+ * - avroTopics 에 있는 토픽: Avro single-object encoding (PostEventAvroCodec)
+ * - 나머지: 기존 JSON (JsonSerializer)
+ * consumer 는 첫 두 바이트(Avro 매직)로 구분하므로 토픽을 전환하는 동안 두 형식이 섞여 있어도 읽을 수 있다.
+ */
+public class PostEventSerializer implements Serializer<Object> {
+
+    private final Set<String> avroTopics;
+    private final PostEventAvroCodec avroCodec = new PostEventAvroCodec();
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    public PostEventSerializer(Set<String> avroTopics) {
+        this.avroTopics = Set.copyOf(avroTopics);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        return avroTopics.contains(topic) ? avroCodec.encode(data) : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        return avroTopics.contains(topic) ? avroCodec.encode(data) : jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
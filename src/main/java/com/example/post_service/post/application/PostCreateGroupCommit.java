@@ -0,0 +1,326 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.entity.Post;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * createPost group commit (post.create.group-commit.enabled, 기본 꺼짐)
+ * 동시에 들어온 등록을 window 동안 또는 max-batch-size 건까지 모아 PostCreateWriter#insertAll 한 번
+ * (트랜잭션/write concern 대기 1회)으로 쓰고, 호출자별 future 를 각각 완료한다.
+ * - collector 스레드 하나가 배치를 모으고 쓰기는 max-in-flight 개까지 동시에 한다.
+ *   쓰기가 밀리는 동안 대기열에 쌓인 요청은 window 를 기다리지 않고 바로 다음 배치가 된다.
+ * - 배치에 담기기까지의 대기는 max-added-latency + 최근 배치 쓰기 시간(EWMA)으로 제한한다.
+ *   writer 가 모두 쓰는 중일 때 대기열의 요청은 한 배치가 끝나기를 기다려 다음 배치로 가고,
+ *   그보다 오래 밀리면(대기열이 가득 찬 경우 포함) 호출 스레드에서 단건으로 쓴다.
+ * - 배치에 담긴 뒤의 대기는 write-timeout 으로 제한한다.
+ * - 배치 쓰기가 실패하면 어느 요청 때문인지 알 수 없으므로(트랜잭션 안의 insertMany 는 첫 오류에서 멈춘다)
+ *   배치의 요청을 하나씩 다시 써서 실패한 요청만 실패시킨다.
+ */
+@Slf4j
+@Component
+class PostCreateGroupCommit {
+
+    // EWMA 가중치 1/8
+    private static final int WRITE_LATENCY_SMOOTHING = 8;
+
+    private final PostCreateWriter postCreateWriter;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int maxInFlight;
+    private final long maxAddedLatencyNanos;
+    private final long writeTimeoutNanos;
+    private final Semaphore inFlight;
+    private final BlockingQueue<PendingCreate> queue;
+    private final AtomicLong batchWriteNanos = new AtomicLong();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueDelayTimer;
+    private final Timer batchWriteTimer;
+    private final Counter latencyCapBypassCounter;
+    private final Counter queueFullBypassCounter;
+
+    private volatile boolean running;
+    private Thread collector;
+    private ExecutorService writers;
+
+    public PostCreateGroupCommit(
+            PostCreateWriter postCreateWriter,
+            @Value("${post.create.group-commit.enabled:false}") boolean enabled,
+            @Value("${post.create.group-commit.window:500us}") Duration window,
+            @Value("${post.create.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${post.create.group-commit.max-in-flight:4}") int maxInFlight,
+            @Value("${post.create.group-commit.max-added-latency:5ms}") Duration maxAddedLatency,
+            @Value("${post.create.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${post.create.group-commit.write-timeout:10s}") Duration writeTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.postCreateWriter = postCreateWriter;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlight = maxInFlight;
+        this.maxAddedLatencyNanos = maxAddedLatency.toNanos();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.inFlight = new Semaphore(maxInFlight);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizeSummary = DistributionSummary.builder("post.create.group-commit.batch.size")
+                .description("한 번에 쓴 게시글 등록 수")
+                .register(meterRegistry);
+        this.queueDelayTimer = Timer.builder("post.create.group-commit.queue.delay")
+                .description("등록 요청이 배치에 담기기까지 기다린 시간")
+                .register(meterRegistry);
+        this.batchWriteTimer = Timer.builder("post.create.group-commit.batch.write")
+                .description("배치 한 번을 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+        this.latencyCapBypassCounter = bypassCounter(meterRegistry, "latency-cap");
+        this.queueFullBypassCounter = bypassCounter(meterRegistry, "queue-full");
+    }
+
+    private static Counter bypassCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("post.create.group-commit.bypassed")
+                .description("배치에 담기지 못하고 호출 스레드에서 단건으로 쓴 등록 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writers = Executors.newFixedThreadPool(maxInFlight,
+                Thread.ofPlatform().name("post-create-writer-", 0).daemon().factory());
+        collector = Thread.ofPlatform().name("post-create-group-commit").daemon().start(this::collect);
+        log.info("Post create group commit started (window={}us, maxBatchSize={}, maxInFlight={}, maxAddedLatency={}ms)",
+                TimeUnit.NANOSECONDS.toMicros(windowNanos), maxBatchSize, maxInFlight,
+                TimeUnit.NANOSECONDS.toMillis(maxAddedLatencyNanos));
+    }
+
+    /**
+     * 모으는 중이던 배치는 실패시키고, 이미 넘긴 배치는 쓰기가 끝날 때까지 기다린다.
+     * 대기열에 남은 요청은 호출 스레드가 대기 상한 후 직접 쓴다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        collector.interrupt();
+        collector.join(TimeUnit.SECONDS.toMillis(1));
+        writers.shutdown();
+        writers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 배치로 쓰고 결과를 기다린다. 배치가 실패하면 그 원인을 그대로 던진다.
+     */
+    public Post create(PostCreateReqDto postCreateReqDto) {
+        PendingCreate pending = new PendingCreate(postCreateReqDto, System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            queueFullBypassCounter.increment();
+            return postCreateWriter.insert(postCreateReqDto);
+        }
+        try {
+            return pending.result.get(maxAddedLatencyNanos + batchWriteNanos.get(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 배치에 담기지 않았으면 직접 쓰고, 이미 담겼으면 그 배치의 결과를 기다린다.
+            if (pending.claim()) {
+                latencyCapBypassCounter.increment();
+                return postCreateWriter.insert(postCreateReqDto);
+            }
+            return await(pending);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.FAILED_TO_CREATE_POST);
+        }
+    }
+
+    private void collect() {
+        while (running) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                return;
+            }
+            List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                inFlight.release();
+                fail(batch, new BaseException(BaseResponseStatus.FAILED_TO_CREATE_POST));
+                return;
+            }
+            batchSizeSummary.record(batch.size());
+            try {
+                writers.execute(() -> {
+                    try {
+                        write(batch);
+                    } catch (Throwable t) {
+                        fail(batch, t);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                fail(batch, new BaseException(BaseResponseStatus.FAILED_TO_CREATE_POST));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 요청이 들어온 시점부터 window 가 지나거나 max-batch-size 가 찰 때까지 모은다.
+     * 호출 스레드가 먼저 가져간(대기 상한 초과) 요청은 건너뛴다.
+     * 중단되면 그때까지 담은 요청은 batch 에 남는다. (호출자가 실패 처리)
+     */
+    private void fillBatch(List<PendingCreate> batch) throws InterruptedException {
+        PendingCreate first = queue.take();
+        while (!claim(first)) {
+            first = queue.take();
+        }
+        batch.add(first);
+
+        long deadline = first.enqueuedAt + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            if (claim(next)) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private boolean claim(PendingCreate pending) {
+        if (!pending.claim()) {
+            return false;
+        }
+        queueDelayTimer.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private void write(List<PendingCreate> batch) {
+        long startedAt = System.nanoTime();
+        List<Post> posts;
+        try {
+            posts = postCreateWriter.insertAll(batch.stream().map(PendingCreate::request).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            log.warn("Post create batch failed, retrying {} requests one by one", batch.size(), e);
+            batch.forEach(this::writeAlone);
+            return;
+        }
+        recordBatchWrite(System.nanoTime() - startedAt);
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(posts.get(i));
+        }
+    }
+
+    private void writeAlone(PendingCreate pending) {
+        try {
+            pending.result.complete(postCreateWriter.insert(pending.request()));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private void recordBatchWrite(long nanos) {
+        batchWriteTimer.record(nanos, TimeUnit.NANOSECONDS);
+        batchWriteNanos.accumulateAndGet(nanos,
+                (average, sample) -> average == 0 ? sample : average + (sample - average) / WRITE_LATENCY_SMOOTHING);
+    }
+
+    private static void fail(List<PendingCreate> batch, Throwable cause) {
+        batch.forEach(pending -> pending.result.completeExceptionally(cause));
+    }
+
+    private Post await(PendingCreate pending) {
+        try {
+            return pending.result.get(writeTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            // 배치가 나중에 커밋될 수도 있으므로 결과를 알 수 없다.
+            log.warn("Post create batch did not finish within write-timeout. postUuid={}", pending.request().getPostUuid());
+            throw new BaseException(BaseResponseStatus.FAILED_TO_CREATE_POST);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.FAILED_TO_CREATE_POST);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static final class PendingCreate {
+
+        private final PostCreateReqDto request;
+        private final long enqueuedAt;
+        private final CompletableFuture<Post> result = new CompletableFuture<>();
+        // collector(배치에 담기) 와 호출 스레드(대기 상한 초과 시 직접 쓰기) 중 하나만 가져간다.
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingCreate(PostCreateReqDto request, long enqueuedAt) {
+            this.request = request;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private PostCreateReqDto request() {
+            return request;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
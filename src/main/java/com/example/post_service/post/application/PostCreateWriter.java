@@ -0,0 +1,49 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.config.TransactionConfig;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostMemberCountRepository;
+import com.example.post_service.post.infrastructure.PostOutboxRepository;
+import com.example.post_service.post.infrastructure.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 등록 쓰기. 게시글 + 회원별 게시글 수 + outbox 를 하나의 Mongo 트랜잭션으로 묶는다.
+ * 호출자가 시도/배치마다 새 트랜잭션을 열 수 있게 서비스와 분리했다. (PostServiceImpl#createPosts, PostCreateGroupCommit)
+ */
+@Component
+@RequiredArgsConstructor
+class PostCreateWriter {
+
+    private final PostRepository postRepository;
+    private final PostMemberCountRepository postMemberCountRepository;
+    private final PostOutboxRepository postOutboxRepository;
+
+    @Transactional(TransactionConfig.MONGO_TRANSACTION_MANAGER)
+    public Post insert(PostCreateReqDto postCreateReqDto) {
+        Post post = postRepository.insertPost(postCreateReqDto.toEntity());
+        postMemberCountRepository.increment(post.getMemberUuid(), 1);
+
+        postOutboxRepository.save(PostServiceRules.createdOutbox(post));
+        return post;
+    }
+
+    /**
+     * 게시글 insertMany + outbox insertMany (하나라도 실패하면 트랜잭션 전체 abort)
+     */
+    @Transactional(TransactionConfig.MONGO_TRANSACTION_MANAGER)
+    public List<Post> insertAll(List<PostCreateReqDto> postCreateReqDtos) {
+        List<Post> posts = postCreateReqDtos.stream()
+                .map(PostCreateReqDto::toEntity)
+                .toList();
+        postRepository.insertPosts(posts);
+        PostServiceRules.memberPostDeltas(posts).forEach(postMemberCountRepository::increment);
+        postOutboxRepository.insert(posts.stream().map(PostServiceRules::createdOutbox).toList());
+        return posts;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostSummaryResDto;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostCursor;
+import com.example.post_service.post.infrastructure.PostMergedCursor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 서브 카테고리별로 조회한 피드(각 최대 pageSize 건)를
+ * (createdAt desc, postUuid desc) 기준 힙으로 k-way merge 한다. (servlet / reactive 공용)
+ */
+final class PostFeedMerger {
+
+    private PostFeedMerger() {
+    }
+
+    /**
+     * @param fetched 소진되지 않은 카테고리별 조회 결과 (mergedCursor.positionOf 이후, 최대 pageSize 건)
+     */
+    static PostCursorPageResDto merge(
+            List<Long> categoryIds,
+            PostMergedCursor mergedCursor,
+            Map<Long, List<Post>> fetched,
+            int pageSize
+    ) {
+        PriorityQueue<FeedMergeEntry> heap = new PriorityQueue<>(FeedMergeEntry.ORDER);
+        fetched.forEach((categoryId, posts) -> {
+            if (!posts.isEmpty()) {
+                heap.add(new FeedMergeEntry(categoryId, posts, 0));
+            }
+        });
+
+        List<Post> page = new ArrayList<>(pageSize);
+        Map<Long, Integer> consumed = new HashMap<>();
+        while (page.size() < pageSize && !heap.isEmpty()) {
+            FeedMergeEntry head = heap.poll();
+            page.add(head.post());
+            consumed.put(head.categoryId(), head.index() + 1);
+            if (head.hasNext()) {
+                heap.add(head.next());
+            }
+        }
+
+        PostMergedCursor nextCursor = advance(mergedCursor, categoryIds, fetched, consumed, pageSize);
+        boolean hasNext = nextCursor.hasRemaining(categoryIds);
+        return PostCursorPageResDto.builder()
+                .posts(page.stream().map(PostSummaryResDto::from).toList())
+                .nextCursor(hasNext ? nextCursor.encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 카테고리별로 마지막 소비 위치를 갱신하고,
+     * pageSize 미만으로 조회되어 모두 소비된 카테고리는 소진 처리한다.
+     */
+    private static PostMergedCursor advance(
+            PostMergedCursor previous,
+            List<Long> categoryIds,
+            Map<Long, List<Post>> fetched,
+            Map<Long, Integer> consumed,
+            int pageSize
+    ) {
+        Map<Long, PostCursor> positions = new HashMap<>();
+        Set<Long> exhausted = new HashSet<>();
+        for (Long categoryId : categoryIds) {
+            if (previous.isExhausted(categoryId)) {
+                exhausted.add(categoryId);
+                continue;
+            }
+            List<Post> posts = fetched.getOrDefault(categoryId, List.of());
+            int consumedCount = consumed.getOrDefault(categoryId, 0);
+            if (consumedCount == posts.size() && posts.size() < pageSize) {
+                exhausted.add(categoryId);
+            } else if (consumedCount > 0) {
+                positions.put(categoryId, PostCursor.from(posts.get(consumedCount - 1)));
+            } else if (previous.positionOf(categoryId) != null) {
+                positions.put(categoryId, previous.positionOf(categoryId));
+            }
+        }
+        return new PostMergedCursor(positions, exhausted);
+    }
+
+    private record FeedMergeEntry(Long categoryId, List<Post> posts, int index) {
+
+        static final Comparator<FeedMergeEntry> ORDER = Comparator
+                .comparing((FeedMergeEntry entry) -> entry.post().getCreatedAt())
+                .thenComparing(entry -> entry.post().getPostUuid())
+                .reversed();
+
+        Post post() {
+            return posts.get(index);
+        }
+
+        boolean hasNext() {
+            return index + 1 < posts.size();
+        }
+
+        FeedMergeEntry next() {
+            return new FeedMergeEntry(categoryId, posts, index + 1);
+        }
+    }
+}
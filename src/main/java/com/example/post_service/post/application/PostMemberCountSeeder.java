@@ -0,0 +1,27 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.config.TransactionConfig;
+import com.example.post_service.post.infrastructure.PostMemberCountRepository;
+import com.example.post_service.post.infrastructure.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원별 게시글 수 집계. count 와 seed 를 하나의 Mongo 트랜잭션(스냅샷)에서 실행한다.
+ * 스냅샷 이후 커밋된 증감은 같은 문서를 쓰므로 write conflict 로 이 트랜잭션이 실패한다. (PostServiceImpl#getMemberPostCount)
+ */
+@Component
+@RequiredArgsConstructor
+class PostMemberCountSeeder {
+
+    private final PostRepository postRepository;
+    private final PostMemberCountRepository postMemberCountRepository;
+
+    @Transactional(TransactionConfig.MONGO_TRANSACTION_MANAGER)
+    public long seed(String memberUuid) {
+        long postCount = postRepository.countLivePostsByMemberUuid(memberUuid);
+        postMemberCountRepository.seed(memberUuid, postCount);
+        return postCount;
+    }
+}
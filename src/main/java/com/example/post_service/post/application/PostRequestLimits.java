@@ -0,0 +1,82 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.response.BaseResponseStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 조회 요청 크기 제한 (servlet / reactive 서비스 공용)
+ */
+@Component
+public class PostRequestLimits {
+
+    @Value("${post.batch.max-size:100}")
+    private int maxBatchSize;
+
+    @Value("${post.bulk-create.max-size:500}")
+    private int maxBulkCreateSize;
+
+    @Value("${post.feed.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${post.feed.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${post.feed.max-categories:20}")
+    private int maxFeedCategories;
+
+    @Value("${post.search.max-query-length:100}")
+    private int maxSearchQueryLength;
+
+    public int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 요청 순서를 유지한 채 중복/null 제거
+     */
+    public List<String> distinctPostUuids(List<String> postUuids) {
+        List<String> distinct = distinct(postUuids);
+        if (distinct.size() > maxBatchSize) {
+            throw new BaseException(BaseResponseStatus.POST_BATCH_SIZE_EXCEEDED);
+        }
+        return distinct;
+    }
+
+    public List<Long> distinctCategoryIds(List<Long> categoryIds) {
+        List<Long> distinct = distinct(categoryIds);
+        if (distinct.size() > maxFeedCategories) {
+            throw new BaseException(BaseResponseStatus.POST_FEED_CATEGORY_LIMIT_EXCEEDED);
+        }
+        return distinct;
+    }
+
+    public void validateBulkCreateSize(int size) {
+        if (size > maxBulkCreateSize) {
+            throw new BaseException(BaseResponseStatus.POST_BULK_CREATE_SIZE_EXCEEDED);
+        }
+    }
+
+    public void validateSearchQuery(String query) {
+        if (query == null || query.isBlank() || query.length() > maxSearchQueryLength) {
+            throw new BaseException(BaseResponseStatus.INVALID_SEARCH_QUERY);
+        }
+    }
+
+    private <T> List<T> distinct(List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -1,19 +1,59 @@
 package com.example.post_service.post.application;
 
 import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
 import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
+import com.example.post_service.post.dto.out.PostBulkCreateResDto;
 import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.GetPostInfoBatchResDto;
 import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.example.post_service.post.dto.out.PostContentsResDto;
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostSearchResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.dto.out.PostVersionResDto;
+import org.bson.RawBsonDocument;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface PostService {
 
     void createPost(PostCreateReqDto postCreateReqDto);
 
-    void updatePost(String memberUuid, String postUuid, PostUpdateReqDto postUpdateReqDto);
+    PostBulkCreateResDto createPosts(List<PostCreateReqDto> postCreateReqDtos);
+
+    PostUpdateResDto updatePost(String memberUuid, String postUuid, PostUpdateReqDto postUpdateReqDto);
 
     void softDeletePost(String memberUuid, String postUuid);
 
     ExistsPostDto existsPost(String postUuid);
 
     GetPostInfoResDto getPostInfo(String postUuid);
+
+    RawBsonDocument getPostDetail(String postUuid);
+
+    PostVersionResDto getPostVersion(String postUuid);
+
+    PostContentsResDto getPostContents(String postUuid, Long version);
+
+    ExistsPostBatchResDto existsPosts(List<String> postUuids);
+
+    GetPostInfoBatchResDto getPostInfos(List<String> postUuids);
+
+    PostCursorPageResDto getMainCategoryPosts(Long mainCategoryId, String cursor, Integer size);
+
+    PostCursorPageResDto getSubCategoryPosts(Long subCategoryId, String cursor, Integer size);
+
+    PostCursorPageResDto getMergedSubCategoryPosts(List<Long> subCategoryIds, String cursor, Integer size);
+
+    PostCursorPageResDto getMemberPosts(String memberUuid, String cursor, Integer size);
+
+    PostMemberCountResDto getMemberPostCount(String memberUuid);
+
+    PostSearchResDto searchPosts(String query, Long mainCategoryId, Long subCategoryId, Integer size);
+
+    long exportPosts(PostExportReqDto postExportReqDto, Consumer<RawBsonDocument> consumer);
 }
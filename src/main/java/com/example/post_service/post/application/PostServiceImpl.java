@@ -1,112 +1,310 @@
 package com.example.post_service.post.application;
 
-import com.example.post_service.kafka.event.PostCreatedEvent;
-import com.example.post_service.kafka.event.PostDeletedEvent;
-import com.example.post_service.kafka.event.PostUpdatedEvent;
-import com.example.post_service.kafka.producer.PostKafkaProducer;
+import com.example.post_service.common.config.TransactionConfig;
+import com.example.post_service.kafka.event.PostUpdatedEventFactory;
 import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
 import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
+import com.example.post_service.post.dto.out.PostBulkCreateResDto;
+import com.example.post_service.post.dto.out.PostCreateResDto;
 import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.GetPostInfoBatchResDto;
 import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.example.post_service.post.dto.out.PostContentsResDto;
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostSearchResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.dto.out.PostVersionResDto;
 import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostMemberCount;
+import com.example.post_service.post.infrastructure.PostBloomFilter;
+import com.example.post_service.post.infrastructure.PostChanges;
+import com.example.post_service.post.infrastructure.PostCursor;
+import com.example.post_service.post.infrastructure.PostInfoCache;
+import com.example.post_service.post.infrastructure.PostMemberCountRepository;
+import com.example.post_service.post.infrastructure.PostMergedCursor;
+import com.example.post_service.post.infrastructure.PostOutboxRepository;
 import com.example.post_service.post.infrastructure.PostRepository;
+import com.example.post_service.post.infrastructure.PostUpdateResult;
+import com.example.post_service.post.infrastructure.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+
+/**
+ * 쓰기는 게시글/회원 게시글 수/outbox 를 하나의 Mongo 트랜잭션으로 묶는다.
+ * 이벤트는 PostOutboxRelay 가 커밋 후 Kafka 로 보내므로 요청 지연에 Kafka 가 끼지 않는다.
+ * 조회는 트랜잭션 없이 실행한다. (JPA 커넥션을 잡지 않도록)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
-    private final PostKafkaProducer postKafkaProducer;
+    private final PostMemberCountRepository postMemberCountRepository;
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostUpdatedEventFactory postUpdatedEventFactory;
+    private final PostInfoCache postInfoCache;
+    private final PostBloomFilter postBloomFilter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostRequestLimits postRequestLimits;
+    private final PostCreateWriter postCreateWriter;
+    private final PostCreateGroupCommit postCreateGroupCommit;
+    private final PostMemberCountSeeder postMemberCountSeeder;
+
+    @Value("${post.export.batch-size:500}")
+    private int exportBatchSize;
 
-    @Transactional
+    /**
+     * post.create.group-commit.enabled 면 동시에 들어온 등록을 모아 한 번에 쓴다. (PostCreateGroupCommit)
+     */
     @Override
     public void createPost(PostCreateReqDto postCreateReqDto) {
-        Post post = postRepository.save(postCreateReqDto.toEntity());
-        PostCreatedEvent postCreatedEvent = PostCreatedEvent.builder()
-                .postUuid(post.getPostUuid())
-                .memberUuid(post.getMemberUuid())
-                .mainCategoryId(post.getMainCategoryId())
-                .subCategoryId(post.getSubCategoryId())
-                .title(post.getTitle())
-                .contents(post.getContents())
-                .blindStatus(post.isBlindStatus())
-                .deletedStatus(post.isDeletedStatus())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .build();
-
-        postKafkaProducer.sendPostEvent(postCreatedEvent);
-    }
-
-    @Transactional
-    @Override
-    public void updatePost(
+        Post post = postCreateGroupCommit.isEnabled()
+                ? postCreateGroupCommit.create(postCreateReqDto)
+                : postCreateWriter.insert(postCreateReqDto);
+        postBloomFilter.put(post.getPostUuid());
+    }
+
+    /**
+     * 대량 등록 (마이그레이션/시드 import 용)
+     * - 항목별로 실패할 수 있는 조건(필수 필드 누락)은 쓰기 전에 검사해 그 항목만 실패로 응답한다.
+     *   postUuid 는 서버에서 만들므로 그 뒤에 남는 쓰기 오류는 특정 항목 때문이 아니다.
+     * - 나머지는 insertMany 한 번 + outbox insertMany 한 번을 하나의 트랜잭션으로 쓴다. (PostCreateWriter)
+     *   이벤트는 PostOutboxRelay 가 outbox 배치 단위로 몰아서 보낸다.
+     * - 쓰기가 실패하면 트랜잭션 전체가 abort 되어 아무것도 저장되지 않으므로 예외를 그대로 던진다.
+     */
+    @Override
+    public PostBulkCreateResDto createPosts(List<PostCreateReqDto> postCreateReqDtos) {
+        postRequestLimits.validateBulkCreateSize(postCreateReqDtos.size());
+        PostCreateResDto[] results = new PostCreateResDto[postCreateReqDtos.size()];
+        List<Integer> valid = PostServiceRules.validBulkItems(postCreateReqDtos, results);
+        if (!valid.isEmpty()) {
+            List<PostCreateReqDto> batch = valid.stream().map(postCreateReqDtos::get).toList();
+            postCreateWriter.insertAll(batch)
+                    .forEach(post -> postBloomFilter.put(post.getPostUuid()));
+            PostServiceRules.completeBulkItems(valid, batch, results);
+        }
+        return PostBulkCreateResDto.from(Arrays.asList(results));
+    }
+
+    @Transactional(TransactionConfig.MONGO_TRANSACTION_MANAGER)
+    @Override
+    public PostUpdateResDto updatePost(
             String memberUuid,
             String postUuid,
             PostUpdateReqDto postUpdateReqDto
     ) {
-        Post post = postRepository.findByPostUuid(postUuid)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
-        if (!post.getMemberUuid().equals(memberUuid)) {
-            throw new SecurityException("게시글 수정 권한이 없습니다.");
+        PostChanges changes = postUpdateReqDto.toChanges();
+        Optional<PostUpdateResult> result = postRepository.updateOwnedPost(postUuid, memberUuid, changes);
+        if (result.isEmpty()) {
+            return resolveUnmatchedUpdate(memberUuid, postUuid, changes);
         }
+        PostUpdateResult updated = result.get();
+        postInfoCache.evictAfterCommit(postUuid);
 
-        post.update(
-                postUpdateReqDto.getTitle(),
-                postUpdateReqDto.getContents(),
-                postUpdateReqDto.getMainCategoryId(),
-                postUpdateReqDto.getSubCategoryId()
-        );
-        postRepository.save(post);
-
-        PostUpdatedEvent postUpdatedEvent = PostUpdatedEvent.builder()
-                .postUuid(post.getPostUuid())
-                .memberUuid(post.getMemberUuid())
-                .mainCategoryId(post.getMainCategoryId())
-                .subCategoryId(post.getSubCategoryId())
-                .title(post.getTitle())
-                .contents(post.getContents())
-                .blindStatus(post.isBlindStatus())
-                .deletedStatus(post.isDeletedStatus())
-                .updatedAt(post.getUpdatedAt())
-                .build();
+        postOutboxRepository.save(PostServiceRules.updatedOutbox(updated, changes, postUpdatedEventFactory));
+        return PostUpdateResDto.of(postUuid, updated.version());
+    }
 
-        postKafkaProducer.sendUpdatePostEvent(postUpdatedEvent);
+    /**
+     * 수정 필터에 매칭되지 않았을 때만 현재 문서를 읽어 원인을 가린다. (없음/삭제됨: 404, 나머지는 PostServiceRules)
+     */
+    private PostUpdateResDto resolveUnmatchedUpdate(String memberUuid, String postUuid, PostChanges changes) {
+        Post current = postRepository.findByPostUuid(postUuid)
+                .orElseThrow(PostServiceRules::postNotFound);
+        PostServiceRules.requireOwner(current, memberUuid);
+        if (changes.contents() != null) {
+            postRepository.attachContents(List.of(current));
+        }
+        return PostServiceRules.resolveUnmatchedUpdate(current, memberUuid, changes);
     }
 
-    @Transactional
+    @Transactional(TransactionConfig.MONGO_TRANSACTION_MANAGER)
     @Override
     public void softDeletePost(String memberUuid, String postUuid) {
-        Post post = postRepository.findByPostUuid(postUuid)
+        // 매칭되지 않은 경우에만 존재 여부를 확인해 권한 없음과 없음을 구분한다. (성공 경로는 쓰기 1회)
+        long version = postRepository.softDeleteOwnedPost(postUuid, memberUuid)
+                .orElseThrow(() -> PostServiceRules.unmatchedPostException(postRepository.existsByPostUuid(postUuid)));
+        postInfoCache.evictAfterCommit(postUuid);
+        postMemberCountRepository.increment(memberUuid, -1);
+        postOutboxRepository.save(PostServiceRules.deletedOutbox(postUuid, version));
+    }
+
+    @Override
+    public GetPostInfoResDto getPostInfo(String postUuid) {
+        return postInfoCache.get(postUuid, this::loadPostInfo)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
-        if (!post.getMemberUuid().equals(memberUuid)) {
-            throw new SecurityException("게시글 수정 권한이 없습니다.");
-        }
-        post.softDelete();
-        postRepository.save(post);
+    }
 
-        PostDeletedEvent postDeletedEvent = PostDeletedEvent.builder()
-                .postUuid(post.getPostUuid())
-                .build();
+    @Override
+    public RawBsonDocument getPostDetail(String postUuid) {
+        return postRepository.findRawDetailByPostUuid(postUuid)
+                .orElseThrow(PostServiceRules::postNotFound);
+    }
 
-        postKafkaProducer.sendDeletePostEvent(postDeletedEvent);
+    @Override
+    public PostVersionResDto getPostVersion(String postUuid) {
+        return postRepository.findVersionByPostUuid(postUuid)
+                .map(PostVersionResDto::from)
+                .orElseThrow(PostServiceRules::postNotFound);
     }
 
+    /**
+     * PostUpdatedEvent.contentsRef (claim-check) 조회 (버전 규칙은 PostServiceRules#requireContentsVersion)
+     */
     @Override
-    public GetPostInfoResDto getPostInfo(String postUuid) {
-        return GetPostInfoResDto.from(postRepository.findByPostUuid(postUuid)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다.")));
+    public PostContentsResDto getPostContents(String postUuid, Long version) {
+        Post post = postRepository.findContentsByPostUuid(postUuid)
+                .orElseThrow(PostServiceRules::postNotFound);
+        PostServiceRules.requireContentsVersion(post, version);
+        postRepository.attachContents(List.of(post));
+        return PostContentsResDto.from(post);
     }
 
     @Override
     public ExistsPostDto existsPost(String postUuid) {
-        return ExistsPostDto.from(postRepository.existsByPostUuid(postUuid));
+        if (!postBloomFilter.mightContain(postUuid)) {
+            return ExistsPostDto.from(false);
+        }
+        boolean exists = postInfoCache.get(postUuid, this::loadPostInfo).isPresent();
+        if (!exists) {
+            postBloomFilter.recordFalsePositive();
+        }
+        return ExistsPostDto.from(exists);
+    }
+
+    private GetPostInfoResDto loadPostInfo(String postUuid) {
+        return postRepository.findSummaryByPostUuid(postUuid)
+                .map(GetPostInfoResDto::from)
+                .orElse(null);
+    }
+
+    /**
+     * 요청 순서대로 postUuid -> 존재 여부 (중복 제거)
+     */
+    @Override
+    public ExistsPostBatchResDto existsPosts(List<String> postUuids) {
+        List<String> requested = postRequestLimits.distinctPostUuids(postUuids);
+        return ExistsPostBatchResDto.of(requested, loadPostInfos(requested));
+    }
+
+    @Override
+    public GetPostInfoBatchResDto getPostInfos(List<String> postUuids) {
+        List<String> requested = postRequestLimits.distinctPostUuids(postUuids);
+        return GetPostInfoBatchResDto.of(requested, loadPostInfos(requested));
+    }
+
+    /**
+     * Bloom filter 로 확실히 없는 키를 거르고, 캐시 미스만 $in 단일 쿼리로 조회
+     */
+    private Map<String, GetPostInfoResDto> loadPostInfos(List<String> postUuids) {
+        List<String> candidates = postUuids.stream()
+                .filter(postBloomFilter::mightContain)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        return postInfoCache.getAll(candidates, this::findPostInfos);
+    }
+
+    private Map<String, GetPostInfoResDto> findPostInfos(Set<? extends String> postUuids) {
+        return postRepository.findAllSummaryByPostUuidIn(List.copyOf(postUuids))
+                .stream()
+                .collect(Collectors.toMap(Post::getPostUuid, GetPostInfoResDto::from, (a, b) -> a));
+    }
+
+    @Override
+    public PostCursorPageResDto getMainCategoryPosts(Long mainCategoryId, String cursor, Integer size) {
+        int pageSize = postRequestLimits.pageSize(size);
+        return PostCursorPageResDto.of(
+                postRepository.findMainCategoryFeed(mainCategoryId, PostCursor.decode(cursor), pageSize + 1),
+                pageSize);
+    }
+
+    @Override
+    public PostCursorPageResDto getSubCategoryPosts(Long subCategoryId, String cursor, Integer size) {
+        int pageSize = postRequestLimits.pageSize(size);
+        return PostCursorPageResDto.of(
+                postRepository.findSubCategoryFeed(subCategoryId, PostCursor.decode(cursor), pageSize + 1),
+                pageSize);
+    }
+
+    /**
+     * 서브 카테고리마다 인덱스 커서를 열어 pageSize 건씩만 가져온 뒤 힙으로 병합한다.
+     */
+    @Override
+    public PostCursorPageResDto getMergedSubCategoryPosts(List<Long> subCategoryIds, String cursor, Integer size) {
+        List<Long> categoryIds = postRequestLimits.distinctCategoryIds(subCategoryIds);
+        int pageSize = postRequestLimits.pageSize(size);
+        PostMergedCursor mergedCursor = PostMergedCursor.decode(cursor);
+
+        Map<Long, List<Post>> fetched = new HashMap<>();
+        for (Long categoryId : categoryIds) {
+            if (!mergedCursor.isExhausted(categoryId)) {
+                fetched.put(categoryId, postRepository.findSubCategoryFeed(
+                        categoryId, mergedCursor.positionOf(categoryId), pageSize));
+            }
+        }
+        return PostFeedMerger.merge(categoryIds, mergedCursor, fetched, pageSize);
+    }
+
+    @Override
+    public PostCursorPageResDto getMemberPosts(String memberUuid, String cursor, Integer size) {
+        int pageSize = postRequestLimits.pageSize(size);
+        return PostCursorPageResDto.of(
+                postRepository.findMemberPosts(memberUuid, PostCursor.decode(cursor), pageSize + 1),
+                pageSize);
+    }
+
+    /**
+     * 집계된(seeded) 문서가 있으면 그대로 반환하고, 없으면 count + seed 를 한 트랜잭션으로 실행한다.
+     * 집계 중 쓰기와 충돌하면 저장하지 않고 count 만 반환한다. (다음 조회에서 다시 집계)
+     */
+    @Override
+    public PostMemberCountResDto getMemberPostCount(String memberUuid) {
+        long postCount = postMemberCountRepository.findById(memberUuid)
+                .filter(PostMemberCount::isSeeded)
+                .map(PostMemberCount::getPostCount)
+                .orElseGet(() -> seedMemberPostCount(memberUuid));
+        return PostMemberCountResDto.of(memberUuid, postCount);
+    }
+
+    private long seedMemberPostCount(String memberUuid) {
+        try {
+            return postMemberCountSeeder.seed(memberUuid);
+        } catch (TransientDataAccessException e) {
+            log.debug("Member post count seed conflicted. memberUuid={}", memberUuid, e);
+            return postRepository.countLivePostsByMemberUuid(memberUuid);
+        }
+    }
+
+    @Override
+    public PostSearchResDto searchPosts(String query, Long mainCategoryId, Long subCategoryId, Integer size) {
+        postRequestLimits.validateSearchQuery(query);
+        return PostSearchResDto.of(query,
+                postSearchIndex.search(query, mainCategoryId, subCategoryId, postRequestLimits.pageSize(size)));
+    }
+
+    @Override
+    public long exportPosts(PostExportReqDto postExportReqDto, Consumer<RawBsonDocument> consumer) {
+        return postRepository.exportRaw(postExportReqDto.toFilter(), exportBatchSize, consumer);
     }
 }
@@ -0,0 +1,125 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.exception.VersionConflictException;
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEventFactory;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.out.PostCreateResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostOutbox;
+import com.example.post_service.post.infrastructure.PostChanges;
+import com.example.post_service.post.infrastructure.PostUpdateResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 쓰기/조회의 판단 규칙과 outbox 구성 (servlet / reactive 공용)
+ * I/O 는 하지 않는다. 두 서비스는 저장소 호출 방식(blocking / Mono)만 다르고 규칙은 여기 것을 부른다.
+ */
+final class PostServiceRules {
+
+    private PostServiceRules() {
+    }
+
+    /**
+     * 대량 등록에서 쓸 항목의 인덱스. 필수 필드가 빠진 항목은 results 에 실패로 채운다.
+     * postUuid 는 서버에서 만들므로 이 검사 뒤에 남는 쓰기 오류는 특정 항목 때문이 아니다.
+     */
+    static List<Integer> validBulkItems(List<PostCreateReqDto> postCreateReqDtos, PostCreateResDto[] results) {
+        List<Integer> valid = new ArrayList<>(postCreateReqDtos.size());
+        for (int i = 0; i < postCreateReqDtos.size(); i++) {
+            PostCreateReqDto postCreateReqDto = postCreateReqDtos.get(i);
+            if (postCreateReqDto != null && postCreateReqDto.hasRequiredFields()) {
+                valid.add(i);
+            } else {
+                results[i] = PostCreateResDto.failed(BaseResponseStatus.INVALID_POST_FORMAT);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * 저장한 항목(valid 순서 = batch 순서)을 results 에 성공으로 채운다.
+     */
+    static void completeBulkItems(List<Integer> valid, List<PostCreateReqDto> batch, PostCreateResDto[] results) {
+        for (int i = 0; i < valid.size(); i++) {
+            results[valid.get(i)] = PostCreateResDto.created(batch.get(i).getPostUuid());
+        }
+    }
+
+    /**
+     * 회원별 게시글 수 증가분
+     */
+    static Map<String, Long> memberPostDeltas(List<Post> posts) {
+        return posts.stream().collect(Collectors.groupingBy(Post::getMemberUuid, Collectors.counting()));
+    }
+
+    static PostOutbox createdOutbox(Post post) {
+        return PostOutbox.of(post.getPostUuid(), post.getCurrentVersion(), PostCreatedEvent.from(post));
+    }
+
+    static PostOutbox updatedOutbox(
+            PostUpdateResult updated,
+            PostChanges changes,
+            PostUpdatedEventFactory postUpdatedEventFactory
+    ) {
+        return PostOutbox.of(updated.postUuid(), updated.version(), postUpdatedEventFactory.create(updated, changes));
+    }
+
+    static PostOutbox deletedOutbox(String postUuid, long version) {
+        PostDeletedEvent postDeletedEvent = PostDeletedEvent.builder()
+                .postUuid(postUuid)
+                .version(version)
+                .build();
+        return PostOutbox.of(postUuid, version, postDeletedEvent);
+    }
+
+    /**
+     * 수정 필터에 매칭되지 않은 경우 현재 문서로 원인을 가린다. (본문을 바꾸는 요청이면 current 에 본문이 붙어 있어야 함)
+     * - 작성자 아님: 403
+     * - 버전 불일치인데 요청 내용이 이미 반영되어 있음: 응답을 못 받은 클라이언트의 재시도이므로 성공 처리 (쓰기/이벤트 없음)
+     * - 그 외 버전 불일치: 409 + 현재 버전 (클라이언트가 다시 조회 후 재시도 여부를 판단)
+     */
+    static PostUpdateResDto resolveUnmatchedUpdate(Post current, String memberUuid, PostChanges changes) {
+        requireOwner(current, memberUuid);
+        if (changes.isAppliedTo(current)) {
+            return PostUpdateResDto.from(current);
+        }
+        throw new VersionConflictException(BaseResponseStatus.POST_VERSION_CONFLICT, current.getCurrentVersion());
+    }
+
+    static void requireOwner(Post current, String memberUuid) {
+        if (!current.getMemberUuid().equals(memberUuid)) {
+            throw new BaseException(BaseResponseStatus.POST_PERMISSION_DENIED);
+        }
+    }
+
+    /**
+     * 삭제 필터(postUuid + memberUuid + 미삭제)에 매칭되지 않았을 때: 게시글이 있으면 권한 없음, 없으면 404
+     */
+    static BaseException unmatchedPostException(boolean exists) {
+        return new BaseException(exists
+                ? BaseResponseStatus.POST_PERMISSION_DENIED
+                : BaseResponseStatus.POST_NOT_FOUND);
+    }
+
+    /**
+     * claim-check 조회: version 을 주면 그 버전의 본문일 때만 돌려주고, 이후 다시 수정되었으면 409 + 현재 버전
+     */
+    static void requireContentsVersion(Post post, Long version) {
+        if (version != null && version != post.getCurrentVersion()) {
+            throw new VersionConflictException(BaseResponseStatus.POST_VERSION_CONFLICT, post.getCurrentVersion());
+        }
+    }
+
+    static BaseException postNotFound() {
+        return new BaseException(BaseResponseStatus.POST_NOT_FOUND);
+    }
+}
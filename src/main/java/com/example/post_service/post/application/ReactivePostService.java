@@ -0,0 +1,63 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
+import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
+import com.example.post_service.post.dto.out.PostBulkCreateResDto;
+import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.GetPostInfoBatchResDto;
+import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.example.post_service.post.dto.out.PostContentsResDto;
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostSearchResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.dto.out.PostVersionResDto;
+import org.bson.RawBsonDocument;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * PostService 의 non-blocking 버전 (reactive 프로파일)
+ */
+public interface ReactivePostService {
+
+    Mono<Void> createPost(PostCreateReqDto postCreateReqDto);
+
+    Mono<PostBulkCreateResDto> createPosts(List<PostCreateReqDto> postCreateReqDtos);
+
+    Mono<PostUpdateResDto> updatePost(String memberUuid, String postUuid, PostUpdateReqDto postUpdateReqDto);
+
+    Mono<Void> softDeletePost(String memberUuid, String postUuid);
+
+    Mono<ExistsPostDto> existsPost(String postUuid);
+
+    Mono<GetPostInfoResDto> getPostInfo(String postUuid);
+
+    Mono<RawBsonDocument> getPostDetail(String postUuid);
+
+    Mono<PostVersionResDto> getPostVersion(String postUuid);
+
+    Mono<PostContentsResDto> getPostContents(String postUuid, Long version);
+
+    Mono<ExistsPostBatchResDto> existsPosts(List<String> postUuids);
+
+    Mono<GetPostInfoBatchResDto> getPostInfos(List<String> postUuids);
+
+    Mono<PostCursorPageResDto> getMainCategoryPosts(Long mainCategoryId, String cursor, Integer size);
+
+    Mono<PostCursorPageResDto> getSubCategoryPosts(Long subCategoryId, String cursor, Integer size);
+
+    Mono<PostCursorPageResDto> getMergedSubCategoryPosts(List<Long> subCategoryIds, String cursor, Integer size);
+
+    Mono<PostCursorPageResDto> getMemberPosts(String memberUuid, String cursor, Integer size);
+
+    Mono<PostMemberCountResDto> getMemberPostCount(String memberUuid);
+
+    Mono<PostSearchResDto> searchPosts(String query, Long mainCategoryId, Long subCategoryId, Integer size);
+
+    Flux<RawBsonDocument> exportPosts(PostExportReqDto postExportReqDto);
+}
@@ -0,0 +1,339 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.kafka.event.PostUpdatedEventFactory;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
+import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
+import com.example.post_service.post.dto.out.PostBulkCreateResDto;
+import com.example.post_service.post.dto.out.PostCreateResDto;
+import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.GetPostInfoBatchResDto;
+import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.example.post_service.post.dto.out.PostContentsResDto;
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostSearchResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.dto.out.PostVersionResDto;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostMemberCount;
+import com.example.post_service.post.infrastructure.PostBloomFilter;
+import com.example.post_service.post.infrastructure.PostChanges;
+import com.example.post_service.post.infrastructure.PostCursor;
+import com.example.post_service.post.infrastructure.PostInfoCache;
+import com.example.post_service.post.infrastructure.PostMergedCursor;
+import com.example.post_service.post.infrastructure.ReactivePostMemberCountRepository;
+import com.example.post_service.post.infrastructure.ReactivePostOutboxRepository;
+import com.example.post_service.post.infrastructure.ReactivePostRepository;
+import com.example.post_service.post.infrastructure.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 스레드(event loop)에서 블로킹하지 않는다.
+ * - Mongo: reactive driver, 쓰기는 TransactionalOperator 로 게시글 + outbox 를 한 트랜잭션으로 (Kafka 발행은 PostOutboxRelay)
+ * - 캐시/Bloom filter/검색 색인은 인메모리라 servlet 경로와 같은 빈을 공유한다.
+ * - 캐시 future 는 여러 요청이 공유하므로 구독 취소가 future 취소로 번지지 않게 한다. (suppressCancel)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePostServiceImpl implements ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final ReactivePostMemberCountRepository reactivePostMemberCountRepository;
+    private final ReactivePostOutboxRepository reactivePostOutboxRepository;
+    private final PostUpdatedEventFactory postUpdatedEventFactory;
+    private final TransactionalOperator transactionalOperator;
+    private final PostInfoCache postInfoCache;
+    private final PostBloomFilter postBloomFilter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostRequestLimits postRequestLimits;
+
+    @Value("${post.export.batch-size:500}")
+    private int exportBatchSize;
+
+    @Override
+    public Mono<Void> createPost(PostCreateReqDto postCreateReqDto) {
+        return Mono.defer(() -> reactivePostRepository.insertPost(postCreateReqDto.toEntity()))
+                .flatMap(post -> {
+                    postBloomFilter.put(post.getPostUuid());
+                    return reactivePostMemberCountRepository.increment(post.getMemberUuid(), 1)
+                            .then(reactivePostOutboxRepository.save(PostServiceRules.createdOutbox(post)));
+                })
+                .as(transactionalOperator::transactional)
+                .then();
+    }
+
+    /**
+     * 규칙은 PostServiceImpl#createPosts 참고 (PostServiceRules)
+     */
+    @Override
+    public Mono<PostBulkCreateResDto> createPosts(List<PostCreateReqDto> postCreateReqDtos) {
+        return Mono.defer(() -> {
+            postRequestLimits.validateBulkCreateSize(postCreateReqDtos.size());
+            PostCreateResDto[] results = new PostCreateResDto[postCreateReqDtos.size()];
+            List<Integer> valid = PostServiceRules.validBulkItems(postCreateReqDtos, results);
+            List<PostCreateReqDto> batch = valid.stream().map(postCreateReqDtos::get).toList();
+            Mono<Void> insert = batch.isEmpty()
+                    ? Mono.empty()
+                    : insertBulk(batch).doOnNext(posts -> {
+                        posts.forEach(post -> postBloomFilter.put(post.getPostUuid()));
+                        PostServiceRules.completeBulkItems(valid, batch, results);
+                    }).then();
+            return insert.then(Mono.fromSupplier(() -> PostBulkCreateResDto.from(Arrays.asList(results))));
+        });
+    }
+
+    /**
+     * 게시글 insertMany + 회원별 게시글 수 + outbox insertMany 를 한 트랜잭션으로 (PostCreateWriter#insertAll 의 reactive 버전)
+     */
+    private Mono<List<Post>> insertBulk(List<PostCreateReqDto> batch) {
+        return Mono.defer(() -> {
+                    List<Post> posts = batch.stream().map(PostCreateReqDto::toEntity).toList();
+                    return reactivePostRepository.insertPosts(posts)
+                            .thenMany(Flux.fromIterable(PostServiceRules.memberPostDeltas(posts).entrySet()))
+                            .concatMap(count -> reactivePostMemberCountRepository.increment(count.getKey(), count.getValue()))
+                            .thenMany(reactivePostOutboxRepository.insert(
+                                    posts.stream().map(PostServiceRules::createdOutbox).toList()))
+                            .then(Mono.just(posts));
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<PostUpdateResDto> updatePost(String memberUuid, String postUuid, PostUpdateReqDto postUpdateReqDto) {
+        PostChanges changes = postUpdateReqDto.toChanges();
+        return reactivePostRepository.updateOwnedPost(postUuid, memberUuid, changes)
+                .flatMap(updated -> reactivePostOutboxRepository
+                        .save(PostServiceRules.updatedOutbox(updated, changes, postUpdatedEventFactory))
+                        .thenReturn(PostUpdateResDto.of(postUuid, updated.version())))
+                .as(transactionalOperator::transactional)
+                // 커밋 후 evict (커밋 전에 지우면 동시 조회가 이전 문서로 다시 채울 수 있음)
+                .doOnNext(updated -> postInfoCache.evict(postUuid))
+                .switchIfEmpty(Mono.defer(() -> resolveUnmatchedUpdate(memberUuid, postUuid, changes)));
+    }
+
+    private Mono<PostUpdateResDto> resolveUnmatchedUpdate(String memberUuid, String postUuid, PostChanges changes) {
+        return reactivePostRepository.findByPostUuid(postUuid)
+                .switchIfEmpty(Mono.error(PostServiceRules::postNotFound))
+                .doOnNext(current -> PostServiceRules.requireOwner(current, memberUuid))
+                .flatMap(current -> changes.contents() != null
+                        ? reactivePostRepository.attachContents(current)
+                        : Mono.just(current))
+                .map(current -> PostServiceRules.resolveUnmatchedUpdate(current, memberUuid, changes));
+    }
+
+    @Override
+    public Mono<Void> softDeletePost(String memberUuid, String postUuid) {
+        return reactivePostRepository.softDeleteOwnedPost(postUuid, memberUuid)
+                .switchIfEmpty(unmatchedPostError(postUuid))
+                .flatMap(version -> reactivePostMemberCountRepository.increment(memberUuid, -1)
+                        .then(reactivePostOutboxRepository.save(PostServiceRules.deletedOutbox(postUuid, version))))
+                .as(transactionalOperator::transactional)
+                .doOnNext(outbox -> postInfoCache.evict(postUuid))
+                .then();
+    }
+
+    private <T> Mono<T> unmatchedPostError(String postUuid) {
+        return reactivePostRepository.existsByPostUuid(postUuid)
+                .flatMap(exists -> Mono.error(PostServiceRules.unmatchedPostException(exists)));
+    }
+
+    @Override
+    public Mono<ExistsPostDto> existsPost(String postUuid) {
+        return Mono.defer(() -> {
+            if (!postBloomFilter.mightContain(postUuid)) {
+                return Mono.just(ExistsPostDto.from(false));
+            }
+            return cachedPostInfo(postUuid)
+                    .hasElement()
+                    .map(exists -> {
+                        if (!exists) {
+                            postBloomFilter.recordFalsePositive();
+                        }
+                        return ExistsPostDto.from(exists);
+                    });
+        });
+    }
+
+    @Override
+    public Mono<GetPostInfoResDto> getPostInfo(String postUuid) {
+        return cachedPostInfo(postUuid)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("게시글이 존재하지 않습니다.")));
+    }
+
+    @Override
+    public Mono<RawBsonDocument> getPostDetail(String postUuid) {
+        return reactivePostRepository.findRawDetailByPostUuid(postUuid)
+                .switchIfEmpty(Mono.error(PostServiceRules::postNotFound));
+    }
+
+    @Override
+    public Mono<PostVersionResDto> getPostVersion(String postUuid) {
+        return reactivePostRepository.findVersionByPostUuid(postUuid)
+                .map(PostVersionResDto::from)
+                .switchIfEmpty(Mono.error(PostServiceRules::postNotFound));
+    }
+
+    @Override
+    public Mono<PostContentsResDto> getPostContents(String postUuid, Long version) {
+        return reactivePostRepository.findContentsByPostUuid(postUuid)
+                .switchIfEmpty(Mono.error(PostServiceRules::postNotFound))
+                .doOnNext(post -> PostServiceRules.requireContentsVersion(post, version))
+                .flatMap(reactivePostRepository::attachContents)
+                .map(PostContentsResDto::from);
+    }
+
+    private Mono<GetPostInfoResDto> cachedPostInfo(String postUuid) {
+        return Mono.fromFuture(() -> postInfoCache.getAsync(postUuid, this::loadPostInfo), true);
+    }
+
+    private CompletableFuture<GetPostInfoResDto> loadPostInfo(String postUuid) {
+        return reactivePostRepository.findSummaryByPostUuid(postUuid)
+                .map(GetPostInfoResDto::from)
+                .toFuture();
+    }
+
+    @Override
+    public Mono<ExistsPostBatchResDto> existsPosts(List<String> postUuids) {
+        return Mono.fromSupplier(() -> postRequestLimits.distinctPostUuids(postUuids))
+                .flatMap(requested -> loadPostInfos(requested)
+                        .map(found -> ExistsPostBatchResDto.of(requested, found)));
+    }
+
+    @Override
+    public Mono<GetPostInfoBatchResDto> getPostInfos(List<String> postUuids) {
+        return Mono.fromSupplier(() -> postRequestLimits.distinctPostUuids(postUuids))
+                .flatMap(requested -> loadPostInfos(requested)
+                        .map(found -> GetPostInfoBatchResDto.of(requested, found)));
+    }
+
+    /**
+     * Bloom filter 로 확실히 없는 키를 거르고, 캐시 미스만 $in 단일 쿼리로 조회
+     */
+    private Mono<Map<String, GetPostInfoResDto>> loadPostInfos(List<String> postUuids) {
+        List<String> candidates = postUuids.stream()
+                .filter(postBloomFilter::mightContain)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.fromFuture(() -> postInfoCache.getAllAsync(candidates, this::findPostInfos), true);
+    }
+
+    private CompletableFuture<Map<String, GetPostInfoResDto>> findPostInfos(Set<? extends String> postUuids) {
+        return reactivePostRepository.findAllSummaryByPostUuidIn(List.copyOf(postUuids))
+                .collectMap(Post::getPostUuid, GetPostInfoResDto::from)
+                .toFuture();
+    }
+
+    @Override
+    public Mono<PostCursorPageResDto> getMainCategoryPosts(Long mainCategoryId, String cursor, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = postRequestLimits.pageSize(size);
+            return reactivePostRepository
+                    .findMainCategoryFeed(mainCategoryId, PostCursor.decode(cursor), pageSize + 1)
+                    .collectList()
+                    .map(posts -> PostCursorPageResDto.of(posts, pageSize));
+        });
+    }
+
+    @Override
+    public Mono<PostCursorPageResDto> getSubCategoryPosts(Long subCategoryId, String cursor, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = postRequestLimits.pageSize(size);
+            return reactivePostRepository
+                    .findSubCategoryFeed(subCategoryId, PostCursor.decode(cursor), pageSize + 1)
+                    .collectList()
+                    .map(posts -> PostCursorPageResDto.of(posts, pageSize));
+        });
+    }
+
+    /**
+     * 카테고리별 조회를 동시에 보내고, 모두 도착하면 힙으로 병합한다.
+     */
+    @Override
+    public Mono<PostCursorPageResDto> getMergedSubCategoryPosts(
+            List<Long> subCategoryIds,
+            String cursor,
+            Integer size
+    ) {
+        return Mono.defer(() -> {
+            List<Long> categoryIds = postRequestLimits.distinctCategoryIds(subCategoryIds);
+            int pageSize = postRequestLimits.pageSize(size);
+            PostMergedCursor mergedCursor = PostMergedCursor.decode(cursor);
+            return Flux.fromIterable(categoryIds)
+                    .filter(categoryId -> !mergedCursor.isExhausted(categoryId))
+                    .flatMap(categoryId -> reactivePostRepository
+                            .findSubCategoryFeed(categoryId, mergedCursor.positionOf(categoryId), pageSize)
+                            .collectList()
+                            .map(posts -> Map.entry(categoryId, posts)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .map(fetched -> PostFeedMerger.merge(categoryIds, mergedCursor, fetched, pageSize));
+        });
+    }
+
+    @Override
+    public Mono<PostCursorPageResDto> getMemberPosts(String memberUuid, String cursor, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = postRequestLimits.pageSize(size);
+            return reactivePostRepository
+                    .findMemberPosts(memberUuid, PostCursor.decode(cursor), pageSize + 1)
+                    .collectList()
+                    .map(posts -> PostCursorPageResDto.of(posts, pageSize));
+        });
+    }
+
+    /**
+     * 규칙은 PostServiceImpl#getMemberPostCount 참고: count + seed 를 한 트랜잭션으로, 충돌하면 count 만 반환
+     */
+    @Override
+    public Mono<PostMemberCountResDto> getMemberPostCount(String memberUuid) {
+        return reactivePostMemberCountRepository.findById(memberUuid)
+                .filter(PostMemberCount::isSeeded)
+                .map(PostMemberCount::getPostCount)
+                .switchIfEmpty(Mono.defer(() -> seedMemberPostCount(memberUuid)))
+                .map(postCount -> PostMemberCountResDto.of(memberUuid, postCount));
+    }
+
+    private Mono<Long> seedMemberPostCount(String memberUuid) {
+        return reactivePostRepository.countLivePostsByMemberUuid(memberUuid)
+                .flatMap(count -> reactivePostMemberCountRepository.seed(memberUuid, count).thenReturn(count))
+                .as(transactionalOperator::transactional)
+                .onErrorResume(TransientDataAccessException.class, e -> {
+                    log.debug("Member post count seed conflicted. memberUuid={}", memberUuid, e);
+                    return reactivePostRepository.countLivePostsByMemberUuid(memberUuid);
+                });
+    }
+
+    @Override
+    public Mono<PostSearchResDto> searchPosts(String query, Long mainCategoryId, Long subCategoryId, Integer size) {
+        return Mono.fromSupplier(() -> {
+            postRequestLimits.validateSearchQuery(query);
+            return PostSearchResDto.of(query, postSearchIndex.search(
+                    query, mainCategoryId, subCategoryId, postRequestLimits.pageSize(size)));
+        });
+    }
+
+    @Override
+    public Flux<RawBsonDocument> exportPosts(PostExportReqDto postExportReqDto) {
+        return Flux.defer(() -> reactivePostRepository.exportRaw(postExportReqDto.toFilter(), exportBatchSize));
+    }
+}
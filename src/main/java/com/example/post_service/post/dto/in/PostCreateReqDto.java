@@ -1,13 +1,15 @@
 package com.example.post_service.post.dto.in;
 
 import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostUuids;
 import com.example.post_service.post.vo.in.PostCreateReqVo;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -56,7 +58,7 @@ public class PostCreateReqDto {
 
     public static PostCreateReqDto of(String memberUuid, PostCreateReqVo postCreateReqVo) {
         return PostCreateReqDto.builder()
-                .postUuid(UUID.randomUUID().toString())
+                .postUuid(PostUuids.newPostUuid())
                 .memberUuid(memberUuid)
                 .mainCategoryId(postCreateReqVo.getMainCategoryId())
                 .subCategoryId(postCreateReqVo.getSubCategoryId())
@@ -68,6 +70,24 @@ public class PostCreateReqDto {
                 .build();
     }
 
+    /**
+     * 대량 등록용. 요청 순서를 유지하고 null 항목은 null 로 둔다. (항목별 결과에서 형식 오류로 응답)
+     */
+    public static List<PostCreateReqDto> listOf(String memberUuid, List<PostCreateReqVo> postCreateReqVos) {
+        if (postCreateReqVos == null) {
+            return List.of();
+        }
+        List<PostCreateReqDto> postCreateReqDtos = new ArrayList<>(postCreateReqVos.size());
+        postCreateReqVos.forEach(vo -> postCreateReqDtos.add(vo == null ? null : of(memberUuid, vo)));
+        return postCreateReqDtos;
+    }
+
+    public boolean hasRequiredFields() {
+        return mainCategoryId != null
+                && title != null && !title.isBlank()
+                && contents != null && !contents.isBlank();
+    }
+
     public Post toEntity() {
         return Post.builder()
                 .postUuid(this.postUuid)
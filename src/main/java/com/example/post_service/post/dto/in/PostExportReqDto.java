@@ -0,0 +1,35 @@
+package com.example.post_service.post.dto.in;
+
+import com.example.post_service.post.infrastructure.PostExportFilter;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class PostExportReqDto {
+
+    private Long mainCategoryId;
+    private Long subCategoryId;
+    private LocalDateTime updatedAfter;
+    private boolean includeDeleted;
+
+    @Builder
+    public PostExportReqDto(
+            Long mainCategoryId,
+            Long subCategoryId,
+            LocalDateTime updatedAfter,
+            boolean includeDeleted
+    ) {
+        this.mainCategoryId = mainCategoryId;
+        this.subCategoryId = subCategoryId;
+        this.updatedAfter = updatedAfter;
+        this.includeDeleted = includeDeleted;
+    }
+
+    public PostExportFilter toFilter() {
+        return new PostExportFilter(mainCategoryId, subCategoryId, updatedAfter, includeDeleted);
+    }
+}
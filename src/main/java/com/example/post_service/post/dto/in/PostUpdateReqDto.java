@@ -1,5 +1,6 @@
 package com.example.post_service.post.dto.in;
 
+import com.example.post_service.post.infrastructure.PostChanges;
 import com.example.post_service.post.vo.in.PostUpdateReqVo;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ public class PostUpdateReqDto {
     private String contents;
     private Long mainCategoryId;
     private Long subCategoryId;
+    private Long version;
 
 
     @Builder
@@ -20,12 +22,14 @@ public class PostUpdateReqDto {
             String title,
             String contents,
             Long mainCategoryId,
-            Long subCategoryId
+            Long subCategoryId,
+            Long version
     ) {
         this.title = title;
         this.contents = contents;
         this.mainCategoryId = mainCategoryId;
         this.subCategoryId = subCategoryId;
+        this.version = version;
     }
 
     public static PostUpdateReqDto from(PostUpdateReqVo postUpdateReqVo) {
@@ -34,7 +38,12 @@ public class PostUpdateReqDto {
                 .contents(postUpdateReqVo.getContents())
                 .mainCategoryId(postUpdateReqVo.getMainCategoryId())
                 .subCategoryId(postUpdateReqVo.getSubCategoryId())
+                .version(postUpdateReqVo.getVersion())
                 .build();
 
     }
+
+    public PostChanges toChanges() {
+        return new PostChanges(title, contents, mainCategoryId, subCategoryId, version);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.post_service.post.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class ExistsPostBatchResDto {
+
+    private Map<String, Boolean> existsPosts;
+
+    @Builder
+    public ExistsPostBatchResDto(Map<String, Boolean> existsPosts) {
+        this.existsPosts = existsPosts;
+    }
+
+    public static ExistsPostBatchResDto from(Map<String, Boolean> existsPosts) {
+        return ExistsPostBatchResDto.builder()
+                .existsPosts(existsPosts)
+                .build();
+    }
+
+    /**
+     * 요청 순서대로 postUuid -> 존재 여부
+     */
+    public static ExistsPostBatchResDto of(List<String> requested, Map<String, GetPostInfoResDto> found) {
+        Map<String, Boolean> existsPosts = new LinkedHashMap<>();
+        requested.forEach(postUuid -> existsPosts.put(postUuid, found.containsKey(postUuid)));
+        return from(existsPosts);
+    }
+}
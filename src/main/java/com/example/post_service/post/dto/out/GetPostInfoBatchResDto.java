@@ -0,0 +1,55 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.vo.out.GetPostInfoBatchResVo;
+import com.example.post_service.post.vo.out.GetPostInfoResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class GetPostInfoBatchResDto {
+
+    private Map<String, GetPostInfoResDto> posts;
+    private List<String> missingPostUuids;
+
+    @Builder
+    public GetPostInfoBatchResDto(Map<String, GetPostInfoResDto> posts, List<String> missingPostUuids) {
+        this.posts = posts;
+        this.missingPostUuids = missingPostUuids;
+    }
+
+    /**
+     * 요청 순서대로 존재하는 게시글만 posts 에, 없는 게시글은 missingPostUuids 에 담는다.
+     */
+    public static GetPostInfoBatchResDto of(List<String> requested, Map<String, GetPostInfoResDto> found) {
+        Map<String, GetPostInfoResDto> posts = new LinkedHashMap<>();
+        List<String> missingPostUuids = new ArrayList<>();
+        for (String postUuid : requested) {
+            GetPostInfoResDto post = found.get(postUuid);
+            if (post == null) {
+                missingPostUuids.add(postUuid);
+            } else {
+                posts.put(postUuid, post);
+            }
+        }
+        return GetPostInfoBatchResDto.builder()
+                .posts(posts)
+                .missingPostUuids(missingPostUuids)
+                .build();
+    }
+
+    public GetPostInfoBatchResVo toVo() {
+        Map<String, GetPostInfoResVo> postVos = new LinkedHashMap<>();
+        posts.forEach((postUuid, post) -> postVos.put(postUuid, post.toVo()));
+        return GetPostInfoBatchResVo.builder()
+                .posts(postVos)
+                .missingPostUuids(missingPostUuids)
+                .build();
+    }
+}
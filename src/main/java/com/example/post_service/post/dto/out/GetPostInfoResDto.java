@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class GetPostInfoResDto {
@@ -13,12 +15,17 @@ public class GetPostInfoResDto {
     private String memberUuid;
     private String postUuid;
     private String postTitle;
+    // 응답 본문에는 없고 ETag / Last-Modified 에만 쓴다. (캐시된 값과 같은 시점의 값)
+    private long version;
+    private LocalDateTime updatedAt;
 
     @Builder
-    public GetPostInfoResDto(String memberUuid, String postUuid, String postTitle) {
+    public GetPostInfoResDto(String memberUuid, String postUuid, String postTitle, long version, LocalDateTime updatedAt) {
         this.memberUuid = memberUuid;
         this.postUuid = postUuid;
         this.postTitle = postTitle;
+        this.version = version;
+        this.updatedAt = updatedAt;
     }
 
     public static GetPostInfoResDto from(Post post) {
@@ -26,6 +33,8 @@ public class GetPostInfoResDto {
                 .memberUuid(post.getMemberUuid())
                 .postUuid(post.getPostUuid())
                 .postTitle(post.getTitle())
+                .version(post.getCurrentVersion())
+                .updatedAt(post.getUpdatedAt())
                 .build();
     }
 
@@ -0,0 +1,44 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.vo.out.PostBulkCreateResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostBulkCreateResDto {
+
+    private int createdCount;
+    private int failedCount;
+    private List<PostCreateResDto> results;
+
+    @Builder
+    public PostBulkCreateResDto(int createdCount, int failedCount, List<PostCreateResDto> results) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+
+    /**
+     * @param results 요청 순서대로 항목별 결과
+     */
+    public static PostBulkCreateResDto from(List<PostCreateResDto> results) {
+        int created = (int) results.stream().filter(PostCreateResDto::isSuccess).count();
+        return PostBulkCreateResDto.builder()
+                .createdCount(created)
+                .failedCount(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    public PostBulkCreateResVo toVo() {
+        return PostBulkCreateResVo.builder()
+                .createdCount(createdCount)
+                .failedCount(failedCount)
+                .results(results.stream().map(PostCreateResDto::toVo).toList())
+                .build();
+    }
+}
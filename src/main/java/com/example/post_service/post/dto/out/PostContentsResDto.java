@@ -0,0 +1,39 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.vo.out.PostContentsResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostContentsResDto {
+
+    private String postUuid;
+    private long version;
+    private String contents;
+
+    @Builder
+    public PostContentsResDto(String postUuid, long version, String contents) {
+        this.postUuid = postUuid;
+        this.version = version;
+        this.contents = contents;
+    }
+
+    public static PostContentsResDto from(Post post) {
+        return PostContentsResDto.builder()
+                .postUuid(post.getPostUuid())
+                .version(post.getCurrentVersion())
+                .contents(post.getContents())
+                .build();
+    }
+
+    public PostContentsResVo toVo() {
+        return PostContentsResVo.builder()
+                .postUuid(postUuid)
+                .version(version)
+                .contents(contents)
+                .build();
+    }
+}
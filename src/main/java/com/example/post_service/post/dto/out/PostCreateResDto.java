@@ -1,7 +1,52 @@
 package com.example.post_service.post.dto.out;
 
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.post.vo.out.PostCreateResVo;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+/**
+ * 대량 등록의 항목별 결과 (실패하면 postUuid 없이 code/message)
+ */
 @Getter
+@NoArgsConstructor
 public class PostCreateResDto {
+
+    private boolean success;
+    private String postUuid;
+    private Integer code;
+    private String message;
+
+    @Builder
+    public PostCreateResDto(boolean success, String postUuid, Integer code, String message) {
+        this.success = success;
+        this.postUuid = postUuid;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static PostCreateResDto created(String postUuid) {
+        return PostCreateResDto.builder()
+                .success(true)
+                .postUuid(postUuid)
+                .build();
+    }
+
+    public static PostCreateResDto failed(BaseResponseStatus status) {
+        return PostCreateResDto.builder()
+                .success(false)
+                .code(status.getCode())
+                .message(status.getMessage())
+                .build();
+    }
+
+    public PostCreateResVo toVo() {
+        return PostCreateResVo.builder()
+                .success(success)
+                .postUuid(postUuid)
+                .code(code)
+                .message(message)
+                .build();
+    }
 }
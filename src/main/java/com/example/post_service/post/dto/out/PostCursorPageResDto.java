@@ -0,0 +1,47 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostCursor;
+import com.example.post_service.post.vo.out.PostCursorPageResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostCursorPageResDto {
+
+    private List<PostSummaryResDto> posts;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public PostCursorPageResDto(List<PostSummaryResDto> posts, String nextCursor, boolean hasNext) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * pageSize + 1 건을 조회해 다음 페이지 존재 여부를 판단한다.
+     */
+    public static PostCursorPageResDto of(List<Post> posts, int pageSize) {
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+        return PostCursorPageResDto.builder()
+                .posts(page.stream().map(PostSummaryResDto::from).toList())
+                .nextCursor(hasNext ? PostCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public PostCursorPageResVo toVo() {
+        return PostCursorPageResVo.builder()
+                .posts(posts.stream().map(PostSummaryResDto::toVo).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
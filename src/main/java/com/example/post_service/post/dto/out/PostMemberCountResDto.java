@@ -0,0 +1,26 @@
+package com.example.post_service.post.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostMemberCountResDto {
+
+    private String memberUuid;
+    private long postCount;
+
+    @Builder
+    public PostMemberCountResDto(String memberUuid, long postCount) {
+        this.memberUuid = memberUuid;
+        this.postCount = postCount;
+    }
+
+    public static PostMemberCountResDto of(String memberUuid, long postCount) {
+        return PostMemberCountResDto.builder()
+                .memberUuid(memberUuid)
+                .postCount(postCount)
+                .build();
+    }
+}
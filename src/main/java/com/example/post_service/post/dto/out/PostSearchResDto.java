@@ -0,0 +1,37 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.infrastructure.search.PostSearchHit;
+import com.example.post_service.post.vo.out.PostSearchResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostSearchResDto {
+
+    private String query;
+    private List<String> postUuids;
+
+    @Builder
+    public PostSearchResDto(String query, List<String> postUuids) {
+        this.query = query;
+        this.postUuids = postUuids;
+    }
+
+    public static PostSearchResDto of(String query, List<PostSearchHit> hits) {
+        return PostSearchResDto.builder()
+                .query(query)
+                .postUuids(hits.stream().map(PostSearchHit::postUuid).toList())
+                .build();
+    }
+
+    public PostSearchResVo toVo() {
+        return PostSearchResVo.builder()
+                .query(query)
+                .postUuids(postUuids)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.vo.out.PostSummaryResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class PostSummaryResDto {
+
+    private String postUuid;
+    private String memberUuid;
+    private Long mainCategoryId;
+    private Long subCategoryId;
+    private String title;
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PostSummaryResDto(
+            String postUuid,
+            String memberUuid,
+            Long mainCategoryId,
+            Long subCategoryId,
+            String title,
+            LocalDateTime createdAt
+    ) {
+        this.postUuid = postUuid;
+        this.memberUuid = memberUuid;
+        this.mainCategoryId = mainCategoryId;
+        this.subCategoryId = subCategoryId;
+        this.title = title;
+        this.createdAt = createdAt;
+    }
+
+    public static PostSummaryResDto from(Post post) {
+        return PostSummaryResDto.builder()
+                .postUuid(post.getPostUuid())
+                .memberUuid(post.getMemberUuid())
+                .mainCategoryId(post.getMainCategoryId())
+                .subCategoryId(post.getSubCategoryId())
+                .title(post.getTitle())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+    public PostSummaryResVo toVo() {
+        return PostSummaryResVo.builder()
+                .postUuid(postUuid)
+                .memberUuid(memberUuid)
+                .mainCategoryId(mainCategoryId)
+                .subCategoryId(subCategoryId)
+                .title(title)
+                .createdAt(createdAt)
+                .build();
+    }
+}
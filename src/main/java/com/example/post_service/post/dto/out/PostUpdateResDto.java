@@ -0,0 +1,42 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.vo.out.PostUpdateResVo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostUpdateResDto {
+
+    private String postUuid;
+    private long version;
+
+    @Builder
+    public PostUpdateResDto(String postUuid, long version) {
+        this.postUuid = postUuid;
+        this.version = version;
+    }
+
+    public static PostUpdateResDto of(String postUuid, long version) {
+        return PostUpdateResDto.builder()
+                .postUuid(postUuid)
+                .version(version)
+                .build();
+    }
+
+    public static PostUpdateResDto from(Post post) {
+        return PostUpdateResDto.builder()
+                .postUuid(post.getPostUuid())
+                .version(post.getCurrentVersion())
+                .build();
+    }
+
+    public PostUpdateResVo toVo() {
+        return PostUpdateResVo.builder()
+                .postUuid(postUuid)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.post_service.post.dto.out;
+
+import com.example.post_service.post.entity.Post;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 조회(If-None-Match / If-Modified-Since) 판단용 메타데이터 (본문 없이 조회)
+ */
+@Getter
+@NoArgsConstructor
+public class PostVersionResDto {
+
+    private String postUuid;
+    private long version;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PostVersionResDto(String postUuid, long version, LocalDateTime updatedAt) {
+        this.postUuid = postUuid;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public static PostVersionResDto from(Post post) {
+        return PostVersionResDto.builder()
+                .postUuid(post.getPostUuid())
+                .version(post.getCurrentVersion())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -5,12 +5,52 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 
+/**
+ * 인덱스는 PostIndexInitializer 가 기동 후 백그라운드로 생성한다. (auto-index-creation 미사용)
+ * 조회 쿼리를 추가하면 PostQueryPlanTest 에서도 호출할 것 (COLLSCAN 검사)
+ * 수정/삭제는 문서 전체 save 가 아닌 PostQueries 의 부분 update 로만 한다.
+ * version 은 insert 시 0 이고 수정/삭제마다 1 씩 증가한다. (도입 전 문서는 필드가 없으므로 0 으로 본다)
+ * 본문이 post.contents.compression.threshold 이상이면 contents 대신 compressedContents(PostContentsCodec) 로 저장한다.
+ * 압축은 getContents() 를 처음 부를 때만 풀므로, 본문을 쓰지 않는 경로는 압축 해제 비용이 없다.
+ * post.contents.offload.threshold 이상인 본문은 post_contents(PostContents) 로 옮기고 offloadedContentsSize 만 남긴다.
+ * 이 경우 getContents() 는 repository 의 attachContents 로 붙이기 전까지 null 이다.
+ */
 @Document(collection = "post")
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "ux_post_uuid_live",
+                def = "{ 'postUuid': 1 }",
+                unique = true,
+                partialFilter = "{ 'deletedStatus': false }"
+        ),
+        @CompoundIndex(
+                name = "ix_main_category_feed",
+                def = "{ 'mainCategoryId': 1, 'createdAt': -1, 'postUuid': -1 }",
+                partialFilter = "{ 'deletedStatus': false, 'blindStatus': false }"
+        ),
+        @CompoundIndex(
+                name = "ix_sub_category_feed",
+                def = "{ 'subCategoryId': 1, 'createdAt': -1, 'postUuid': -1 }",
+                partialFilter = "{ 'deletedStatus': false, 'blindStatus': false }"
+        ),
+        @CompoundIndex(
+                name = "ix_member_posts",
+                def = "{ 'memberUuid': 1, 'createdAt': -1, 'postUuid': -1 }",
+                partialFilter = "{ 'deletedStatus': false }"
+        ),
+        @CompoundIndex(name = "ix_post_updated", def = "{ 'updatedAt': 1 }"),
+        @CompoundIndex(name = "ix_main_category_updated", def = "{ 'mainCategoryId': 1, 'updatedAt': 1 }"),
+        @CompoundIndex(name = "ix_sub_category_updated", def = "{ 'subCategoryId': 1, 'updatedAt': 1 }")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -25,6 +65,13 @@ public class Post {
     private Long subCategoryId;
     private String title;
     private String contents;
+    private byte[] compressedContents;
+    // 본문을 post_contents 로 옮긴 경우 원문 UTF-8 바이트 수
+    private Integer offloadedContentsSize;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private String decodedContents;
 
     private boolean blindStatus;
     private boolean deletedStatus;
@@ -33,6 +80,9 @@ public class Post {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Builder
     public Post(
             String postUuid,
@@ -60,21 +110,51 @@ public class Post {
         this.updatedAt = updatedAt;
     }
 
-    public void update(
-            String title,
-            String contents,
-            Long mainCategoryId,
-            Long subCategoryId
-    ) {
-        this.title = title;
-        this.contents = contents;
-        this.mainCategoryId = mainCategoryId;
-        this.subCategoryId = subCategoryId;
-        this.updatedAt = LocalDateTime.now();
+    public long getCurrentVersion() {
+        return version == null ? 0L : version;
+    }
+
+    public String getContents() {
+        if (contents != null) {
+            return contents;
+        }
+        if (decodedContents == null && compressedContents != null) {
+            decodedContents = PostContentsCodec.decode(compressedContents);
+        }
+        return decodedContents;
+    }
+
+    public boolean isContentsOffloaded() {
+        return offloadedContentsSize != null;
+    }
+
+    public boolean isContentsCompressed() {
+        return compressedContents != null;
+    }
+
+    /**
+     * insert 직전(PostContentsCompressor) 에만 호출. 이미 가진 원문은 그대로 두고 저장 형식만 바꾼다.
+     */
+    public void compressContents(byte[] compressedContents) {
+        this.decodedContents = this.contents;
+        this.contents = null;
+        this.compressedContents = compressedContents;
+    }
+
+    /**
+     * insert 직전(PostRepositoryCustom#insertPost) 에만 호출. 본문은 post_contents 에 따로 저장한다.
+     */
+    public void offloadContents(int contentsSize) {
+        this.decodedContents = getContents();
+        this.contents = null;
+        this.compressedContents = null;
+        this.offloadedContentsSize = contentsSize;
     }
 
-    public void softDelete(){
-        this.deletedStatus = true;
-        this.deletedAt = LocalDateTime.now();
+    /**
+     * post_contents 에서 읽은 본문을 붙인다. (저장 대상 아님)
+     */
+    public void attachContents(String contents) {
+        this.decodedContents = contents;
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.post_service.post.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * post.contents.offload.threshold 이상인 게시글 본문 (post 문서에는 offloadedContentsSize 만 남는다)
+ * _id 가 postUuid 이므로 별도 인덱스 없이 조회/교체한다.
+ * 저장 형식은 Post 와 같다. (작으면 contents, 압축되면 compressedContents)
+ */
+@Document(collection = "post_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostContents {
+
+    @Id
+    private String postUuid;
+
+    private String contents;
+    private byte[] compressedContents;
+
+    private PostContents(String postUuid, String contents, byte[] compressedContents) {
+        this.postUuid = postUuid;
+        this.contents = contents;
+        this.compressedContents = compressedContents;
+    }
+
+    /**
+     * @param compressedContents 압축 형식 (null 이면 contents 를 문자열로 저장)
+     */
+    public static PostContents of(String postUuid, String contents, byte[] compressedContents) {
+        return compressedContents == null
+                ? new PostContents(postUuid, contents, null)
+                : new PostContents(postUuid, null, compressedContents);
+    }
+
+    public String getContents() {
+        return contents != null || compressedContents == null ? contents : PostContentsCodec.decode(compressedContents);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.post_service.post.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 저장된 게시글 본문(post.compressedContents) 형식
+ * [codec id 1바이트][원문 UTF-8 길이 4바이트][압축 데이터]
+ * codec id 로 읽기 때문에 codec 을 추가/변경해도 기존 문서를 그대로 읽을 수 있다. (id 는 재사용하지 말 것)
+ */
+public enum PostContentsCodec {
+
+    DEFLATE((byte) 1) {
+        @Override
+        byte[] compress(byte[] raw, int level) {
+            Deflater deflater = new Deflater(level);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        void decompress(byte[] stored, int offset, byte[] raw) throws DataFormatException {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(stored, offset, stored.length - offset);
+                int read = 0;
+                while (read < raw.length && !inflater.finished()) {
+                    int n = inflater.inflate(raw, read, raw.length - read);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new DataFormatException("Truncated deflate stream");
+                    }
+                    read += n;
+                }
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    public static final String FIELD = "compressedContents";
+
+    private static final int HEADER_LENGTH = 5;
+
+    private final byte id;
+
+    PostContentsCodec(byte id) {
+        this.id = id;
+    }
+
+    abstract byte[] compress(byte[] raw, int level);
+
+    abstract void decompress(byte[] stored, int offset, byte[] raw) throws DataFormatException;
+
+    /**
+     * @return 저장 형식(헤더 포함). 압축해도 줄지 않으면 null (원문 그대로 저장)
+     */
+    public byte[] encode(byte[] raw, int level) {
+        byte[] compressed = compress(raw, level);
+        if (compressed.length + HEADER_LENGTH >= raw.length) {
+            return null;
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + compressed.length)
+                .put(id)
+                .putInt(raw.length)
+                .put(compressed)
+                .array();
+    }
+
+    public static String decode(byte[] stored) {
+        byte[] raw = new byte[decodedLength(stored)];
+        try {
+            of(stored[0]).decompress(stored, HEADER_LENGTH, raw);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted post contents", e);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 압축을 풀지 않고 원문 UTF-8 바이트 수만 읽는다.
+     */
+    public static int decodedLength(byte[] stored) {
+        return ByteBuffer.wrap(stored, 1, 4).getInt();
+    }
+
+    /**
+     * 인코딩 결과를 만들지 않고 UTF-8 바이트 수만 센다.
+     */
+    public static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static PostContentsCodec of(byte id) {
+        for (PostContentsCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IllegalStateException("Unknown post contents codec: " + id);
+    }
+}
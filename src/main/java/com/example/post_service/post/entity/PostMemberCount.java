@@ -0,0 +1,33 @@
+package com.example.post_service.post.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 회원별 (삭제되지 않은) 게시글 수
+ * createPost / softDeletePost 에서 $inc(upsert) 로 증감하고, seeded 가 아니면 첫 조회 시 집계한 값으로 덮어쓴다.
+ * 집계 전의 증감만 쌓인 문서(seeded=false)는 postCount 를 믿지 않는다.
+ */
+@Document(collection = "post_member_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostMemberCount {
+
+    @Id
+    private String memberUuid;
+
+    private long postCount;
+
+    private boolean seeded;
+
+    @Builder
+    public PostMemberCount(String memberUuid, long postCount, boolean seeded) {
+        this.memberUuid = memberUuid;
+        this.postCount = postCount;
+        this.seeded = seeded;
+    }
+}
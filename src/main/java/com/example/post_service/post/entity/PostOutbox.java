@@ -0,0 +1,52 @@
+package com.example.post_service.post.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 이벤트 outbox
+ * 게시글 쓰기와 같은 Mongo 트랜잭션에서 insert 되고, PostOutboxRelay 가 Kafka 로 보낸 뒤(ack 확인 후) 삭제한다.
+ * - _id(ObjectId) 오름차순으로 꺼내며, 같은 게시글 안에서는 version 순서로 보낸다.
+ * - event 는 _class 와 함께 저장되어 원래 이벤트 타입으로 읽힌다.
+ * - 재시도해도 성공할 수 없는 실패(직렬화, 크기 초과 등)는 attempts 를 올리고, 한도를 넘으면
+ *   post_outbox_dead_letter 로 옮긴다. (브로커 장애 같은 일시적 실패는 attempts 를 올리지 않고 계속 재시도)
+ */
+@Document(collection = "post_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostOutbox {
+
+    @Id
+    private String id;
+
+    private String postUuid;
+    private long version;
+    private Object event;
+    private LocalDateTime createdAt;
+
+    private int attempts;
+    private String lastError;
+
+    @Builder
+    public PostOutbox(String postUuid, long version, Object event, LocalDateTime createdAt) {
+        this.postUuid = postUuid;
+        this.version = version;
+        this.event = event;
+        this.createdAt = createdAt;
+    }
+
+    public static PostOutbox of(String postUuid, long version, Object event) {
+        return PostOutbox.builder()
+                .postUuid(postUuid)
+                .version(version)
+                .event(event)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
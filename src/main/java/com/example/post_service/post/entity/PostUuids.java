@@ -0,0 +1,39 @@
+package com.example.post_service.post.entity;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 게시글 postUuid 생성 (UUIDv7: 앞 48비트가 생성 시각 ms, 나머지는 난수)
+ * 키만 보고 생성 시각을 알 수 있어 PostBloomFilter 가 "아직 이벤트가 도착하지 않았을 수 있는" 최근 게시글을 구분한다.
+ * 도입 전 게시글은 UUIDv4 이므로 생성 시각을 알 수 없다. (createdAtMillis = -1)
+ */
+public final class PostUuids {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PostUuids() {
+    }
+
+    public static String newPostUuid() {
+        long millis = System.currentTimeMillis();
+        long mostSigBits = (millis << 16) | 0x7000L | (RANDOM.nextLong() & 0x0FFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * @return UUIDv7 이면 생성 시각(epoch ms), 아니면 -1
+     */
+    public static long createdAtMillis(String postUuid) {
+        if (postUuid == null || postUuid.length() != 36) {
+            return -1;
+        }
+        try {
+            UUID uuid = UUID.fromString(postUuid);
+            return uuid.version() == 7 ? uuid.getMostSignificantBits() >>> 16 : -1;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostUuids;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 살아있는 게시글 postUuid 에 대한 Bloom filter
+ * - 기동 직후 post 컬렉션을 스트리밍하여 구축하고, 주기적으로 재구축하여 삭제된 게시글을 털어낸다.
+ *   구축 이후 다른 인스턴스에서 만든 게시글은 PostEventConsumer 가 생성 이벤트를 받아 넣는다.
+ * - mightContain 이 false 면 해당 게시글은 존재하지 않는다. filter 가 모를 수 있는 경우는 true 를 반환하여 DB 조회로 넘긴다.
+ *   - 구축이 끝나기 전
+ *   - postUuid(UUIDv7) 의 생성 시각이 생성 이벤트 수신 위치(markDeliveredUntil) - recent-window 보다 뒤인 경우
+ *     (생성 이벤트가 아직 outbox/Kafka 를 지나오는 중이거나 consumer 가 따라잡는 중일 수 있음)
+ */
+@Slf4j
+@Component
+public class PostBloomFilter {
+
+    private final PostRepository postRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int streamBatchSize;
+    private final long recentWindowMillis;
+
+    private final Counter negativeCounter;
+    private final Counter uncertainCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BitArrayBloomFilter current;
+    private volatile BitArrayBloomFilter rebuilding;
+    // 이 시각(epoch ms) 이전에 발행된 생성 이벤트는 모두 반영됨 (PostEventConsumer 가 갱신)
+    private volatile long deliveredUntil;
+
+    public PostBloomFilter(
+            PostRepository postRepository,
+            @Value("${post.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${post.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${post.bloom.stream-batch-size:5000}") int streamBatchSize,
+            @Value("${post.bloom.recent-window:PT10M}") Duration recentWindow,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.streamBatchSize = streamBatchSize;
+        this.recentWindowMillis = recentWindow.toMillis();
+
+        this.negativeCounter = Counter.builder("post.bloom.negative")
+                .description("Bloom filter 로 DB 조회 없이 '없음' 응답한 횟수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("post.bloom.false.positive")
+                .description("Bloom filter 는 통과했지만 DB 에 없던 횟수")
+                .register(meterRegistry);
+        this.uncertainCounter = Counter.builder("post.bloom.uncertain")
+                .description("filter 에 없지만 최근 생성 게시글일 수 있어 DB 로 넘긴 횟수")
+                .register(meterRegistry);
+        Gauge.builder("post.bloom.expected.fpp", this, f -> f.current == null ? 1.0 : f.current.expectedFpp())
+                .description("현재 적재량 기준 예상 false positive 비율")
+                .register(meterRegistry);
+        Gauge.builder("post.bloom.memory", this, f -> f.current == null ? 0 : f.current.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("post.bloom.insertions", this, f -> f.current == null ? 0 : f.current.insertions())
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String postUuid) {
+        BitArrayBloomFilter filter = current;
+        if (filter == null || filter.mightContain(postUuid)) {
+            return true;
+        }
+        if (isPossiblyUndelivered(postUuid)) {
+            uncertainCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    private boolean isPossiblyUndelivered(String postUuid) {
+        long createdAt = PostUuids.createdAtMillis(postUuid);
+        return createdAt >= 0 && createdAt > deliveredUntil - recentWindowMillis;
+    }
+
+    /**
+     * @param timestamp 이 시각(epoch ms) 이전에 발행된 생성 이벤트는 모두 put 되었음
+     */
+    public void markDeliveredUntil(long timestamp) {
+        deliveredUntil = timestamp;
+    }
+
+    public void put(String postUuid) {
+        // rebuilding 을 먼저 읽어야 교체 직후의 put 이 유실되지 않는다.
+        BitArrayBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(postUuid);
+        }
+        BitArrayBloomFilter filter = current;
+        if (filter != null && filter != next) {
+            filter.put(postUuid);
+        }
+    }
+
+    public void recordFalsePositive() {
+        falsePositiveCounter.increment();
+    }
+
+    /**
+     * 첫 실행은 기동 시 구축, 이후 주기적으로 재구축
+     * 재구축 중 들어온 put 은 기존/신규 필터 양쪽에 반영되므로 교체 시점에 누락이 없다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${post.bloom.rebuild-interval:PT6H}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long liveCount = postRepository.countLivePosts();
+        BitArrayBloomFilter next = new BitArrayBloomFilter(
+                Math.max(expectedInsertions, liveCount * 2), falsePositiveRate);
+        rebuilding = next;
+        try (Stream<String> postUuids = postRepository.streamLivePostUuids(streamBatchSize)) {
+            postUuids.forEach(next::put);
+            current = next;
+            log.info("Post bloom filter rebuilt. insertions={}, memory={}B, elapsed={}ms",
+                    next.insertions(), next.memoryBytes(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Post bloom filter rebuild failed", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    static final class BitArrayBloomFilter {
+
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLong insertions = new AtomicLong();
+
+        BitArrayBloomFilter(long expectedInsertions, double fpp) {
+            long bits = (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) >>> 6)));
+            this.numBits = (long) words.length() << 6;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, numBits);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFpp() {
+            return Math.pow(1 - Math.exp(-(double) numHashes * insertions.get() / numBits), numHashes);
+        }
+
+        long memoryBytes() {
+            return (long) words.length() * Long.BYTES;
+        }
+
+        long insertions() {
+            return insertions.get();
+        }
+
+        // FNV-1a 64 + splitmix64 finalizer
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
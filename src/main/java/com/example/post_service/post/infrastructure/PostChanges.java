@@ -0,0 +1,31 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+
+import java.util.Objects;
+
+/**
+ * 게시글 수정 내용 (null 인 필드는 변경하지 않음)
+ * expectedVersion 이 있으면 해당 버전일 때만 수정한다. (compare-and-set)
+ */
+public record PostChanges(
+        String title,
+        String contents,
+        Long mainCategoryId,
+        Long subCategoryId,
+        Long expectedVersion
+) {
+
+    /**
+     * expectedVersion 이후 버전의 post 에 이 수정 내용이 이미 모두 반영되어 있는지
+     * (응답을 받지 못한 클라이언트가 같은 요청을 재시도한 경우)
+     */
+    public boolean isAppliedTo(Post post) {
+        return expectedVersion != null
+                && post.getCurrentVersion() > expectedVersion
+                && (title == null || title.equals(post.getTitle()))
+                && (contents == null || contents.equals(post.getContents()))
+                && (mainCategoryId == null || Objects.equals(mainCategoryId, post.getMainCategoryId()))
+                && (subCategoryId == null || Objects.equals(subCategoryId, post.getSubCategoryId()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContentsCodec;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 본문 압축 저장
+ * - insert: Post 를 문서로 바꾸기 직전 콜백에서 본문을 압축 형식으로 바꾼다. (blocking/reactive 공용)
+ * - 수정: PostQueries#changes 가 compress 결과에 따라 contents / compressedContents 중 하나만 남긴다.
+ * - post_contents 로 분리 저장되는 본문은 PostContentsOffloader 가 같은 기준으로 압축한다.
+ * threshold 미만이거나 압축해도 줄지 않는 본문은 문자열 그대로 저장한다.
+ */
+@Component
+public class PostContentsCompressor implements BeforeConvertCallback<Post> {
+
+    private final int threshold;
+    private final int level;
+    private final PostContentsCodec codec;
+
+    public PostContentsCompressor(
+            @Value("${post.contents.compression.threshold:1KB}") DataSize threshold,
+            @Value("${post.contents.compression.level:6}") int level,
+            @Value("${post.contents.compression.codec:DEFLATE}") PostContentsCodec codec
+    ) {
+        this.threshold = (int) threshold.toBytes();
+        this.level = level;
+        this.codec = codec;
+    }
+
+    /**
+     * @return 저장할 압축 형식, 압축하지 않고 문자열로 저장해야 하면 null
+     */
+    public byte[] compress(String contents) {
+        // UTF-8 은 문자당 1~3 바이트(보조 문자는 2 char 에 4 바이트)이므로 인코딩 전에 대부분 걸러진다.
+        if (contents == null || contents.length() * 3 < threshold) {
+            return null;
+        }
+        byte[] raw = contents.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < threshold) {
+            return null;
+        }
+        return codec.encode(raw, level);
+    }
+
+    @Override
+    public Post onBeforeConvert(Post post, String collection) {
+        if (!post.isContentsCompressed() && !post.isContentsOffloaded()) {
+            byte[] compressed = compress(post.getContents());
+            if (compressed != null) {
+                post.compressContents(compressed);
+            }
+        }
+        return post;
+    }
+
+    /**
+     * ReactiveMongoTemplate 용 (두 콜백 인터페이스의 메서드 시그니처가 같아 한 클래스로 구현할 수 없다)
+     */
+    @Component
+    static class Reactive implements ReactiveBeforeConvertCallback<Post> {
+
+        private final PostContentsCompressor postContentsCompressor;
+
+        Reactive(PostContentsCompressor postContentsCompressor) {
+            this.postContentsCompressor = postContentsCompressor;
+        }
+
+        @Override
+        public Publisher<Post> onBeforeConvert(Post post, String collection) {
+            return Mono.fromSupplier(() -> postContentsCompressor.onBeforeConvert(post, collection));
+        }
+    }
+}
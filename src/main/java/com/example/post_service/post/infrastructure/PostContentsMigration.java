@@ -0,0 +1,119 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContents;
+import com.example.post_service.post.entity.PostContentsCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 post 문서의 큰 본문을 post_contents 로 옮기는 온라인 마이그레이션 (post.contents.offload.migration.enabled)
+ * - _id 순으로 batch-size 건씩 읽고, 배치 사이에 pause 만큼 쉰다. (서비스 중단 없이 부하를 나눠서)
+ * - 배치의 대상 게시글은 Mongo 트랜잭션 하나로 옮긴다: post 에서 본문 필드를 지우고 offloadedContentsSize 를 남긴 뒤
+ *   post_contents 에 저장된 형식 그대로(압축 여부 유지) 넣는다.
+ * - 읽은 뒤 수정/분리된 게시글은 조건(version, offloadedContentsSize 없음)에 걸리지 않으므로 건너뛴다. (쓰기 경로가 이미 처리)
+ * - 재개 위치는 메모리에만 둔다. 재시작하면 처음부터 다시 훑지만 이미 옮긴 문서는 건너뛰므로 결과는 같다.
+ * 여러 인스턴스에서 켜도 조건부 수정이라 안전하지만, 한 인스턴스에서만 켜는 것을 권장한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.contents.offload.migration.enabled", havingValue = "true")
+public class PostContentsMigration {
+
+    private final MongoTemplate mongoTemplate;
+    private final PostContentsOffloader postContentsOffloader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private ObjectId lastId;
+    private boolean finished;
+    private long scanned;
+    private long migrated;
+
+    public PostContentsMigration(
+            MongoTemplate mongoTemplate,
+            PostContentsOffloader postContentsOffloader,
+            MongoTransactionManager mongoTransactionManager,
+            @Value("${post.contents.offload.migration.batch-size:200}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.postContentsOffloader = postContentsOffloader;
+        this.transactionTemplate = new TransactionTemplate(mongoTransactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${post.contents.offload.migration.pause:PT1S}")
+    public void migrateBatch() {
+        if (finished) {
+            return;
+        }
+        Query query = new Query(lastId == null ? new Criteria() : Criteria.where("_id").gt(lastId))
+                .with(Sort.by("_id"))
+                .limit(batchSize);
+        query.fields().include("postUuid", "contents", PostContentsCodec.FIELD,
+                PostContentsOffloader.OFFLOADED_SIZE_FIELD, "version");
+        List<Post> batch = mongoTemplate.find(query, Post.class);
+        if (batch.isEmpty()) {
+            finished = true;
+            log.info("Post contents offload migration finished. scanned={}, migrated={}", scanned, migrated);
+            return;
+        }
+
+        List<Post> candidates = batch.stream()
+                .filter(post -> !post.isContentsOffloaded()
+                        && postContentsOffloader.isOffloadCandidate(storedContentsSize(post)))
+                .toList();
+        if (!candidates.isEmpty()) {
+            try {
+                migrated += transactionTemplate.execute(status -> migrate(candidates));
+            } catch (DataAccessException e) {
+                // 쓰기 충돌 등: 재개 위치를 넘기지 않고 다음 주기에 같은 배치를 다시 시도
+                log.warn("Post contents offload migration batch failed. lastId={}", lastId, e);
+                return;
+            }
+        }
+        scanned += batch.size();
+        lastId = new ObjectId(batch.get(batch.size() - 1).getId());
+    }
+
+    private int migrate(List<Post> candidates) {
+        int count = 0;
+        for (Post post : candidates) {
+            Query unchanged = new Query(Criteria.where("_id").is(new ObjectId(post.getId()))
+                    .and("version").is(post.getVersion())
+                    .and(PostContentsOffloader.OFFLOADED_SIZE_FIELD).exists(false));
+            Update offload = new Update()
+                    .set(PostContentsOffloader.OFFLOADED_SIZE_FIELD, storedContentsSize(post))
+                    .unset("contents")
+                    .unset(PostContentsCodec.FIELD);
+            if (mongoTemplate.updateFirst(unchanged, offload, Post.class).getModifiedCount() == 0) {
+                continue;
+            }
+            mongoTemplate.save(PostContents.of(post.getPostUuid(),
+                    post.isContentsCompressed() ? null : post.getContents(), post.getCompressedContents()));
+            count++;
+        }
+        return count;
+    }
+
+    // 압축된 본문은 풀지 않고 헤더의 원문 길이만 읽는다.
+    private static int storedContentsSize(Post post) {
+        return post.isContentsCompressed()
+                ? PostContentsCodec.decodedLength(post.getCompressedContents())
+                : PostContentsCodec.utf8Length(post.getContents());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostContents;
+import com.example.post_service.post.entity.PostContentsCodec;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 큰 본문을 post_contents 로 분리 저장하는 기준과 형식 (blocking/reactive repository 공용)
+ * post 문서를 메타데이터 크기로 유지해 목록/요약/존재 확인 쿼리가 본문을 working set 으로 끌어오지 않게 한다.
+ * GridFS 대신 일반 컬렉션을 쓰는 이유: 본문은 16MB 보다 훨씬 작고, 게시글 쓰기 트랜잭션에 함께 묶여야 한다.
+ */
+@Component
+public class PostContentsOffloader {
+
+    static final String OFFLOADED_SIZE_FIELD = "offloadedContentsSize";
+    static final String COLLECTION = "post_contents";
+
+    private final int threshold;
+    private final PostContentsCompressor postContentsCompressor;
+
+    public PostContentsOffloader(
+            @Value("${post.contents.offload.threshold:8KB}") DataSize threshold,
+            PostContentsCompressor postContentsCompressor
+    ) {
+        this.threshold = (int) threshold.toBytes();
+        this.postContentsCompressor = postContentsCompressor;
+    }
+
+    /**
+     * @return 분리 저장해야 하면 원문 UTF-8 바이트 수, 아니면 null
+     */
+    public Integer offloadedSize(String contents) {
+        if (contents == null || contents.length() * 3 < threshold) {
+            return null;
+        }
+        int size = PostContentsCodec.utf8Length(contents);
+        return size < threshold ? null : size;
+    }
+
+    public boolean isOffloadCandidate(int contentsSize) {
+        return contentsSize >= threshold;
+    }
+
+    public PostContents toDocument(String postUuid, String contents) {
+        return PostContents.of(postUuid, contents, postContentsCompressor.compress(contents));
+    }
+
+    static boolean isOffloaded(RawBsonDocument post) {
+        return post.containsKey(OFFLOADED_SIZE_FIELD);
+    }
+
+    /**
+     * 여러 문서를 내보낼 때 post_contents 를 $in 한 번으로 읽기 위한 postUuid 목록 (본문이 분리된 문서만)
+     */
+    static List<String> offloadedPostUuids(List<RawBsonDocument> posts) {
+        return posts.stream()
+                .filter(PostContentsOffloader::isOffloaded)
+                .map(post -> post.getString("postUuid").getValue())
+                .toList();
+    }
+
+    /**
+     * contentsByPostUuid: offloadedPostUuids 로 읽은 post_contents 문서 (_id = postUuid)
+     */
+    static RawBsonDocument mergeIfOffloaded(RawBsonDocument post, Map<String, RawBsonDocument> contentsByPostUuid) {
+        return isOffloaded(post)
+                ? merge(post, contentsByPostUuid.get(post.getString("postUuid").getValue()))
+                : post;
+    }
+
+    /**
+     * 원본 raw 문서의 offloadedContentsSize 자리에 post_contents 의 본문 필드를 넣는다. (필드 순서 유지)
+     * compressedContents 는 그대로 두고 PostDocumentJsonWriter 가 기록할 때 푼다.
+     */
+    static RawBsonDocument merge(RawBsonDocument post, RawBsonDocument contents) {
+        BsonDocument merged = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : post.entrySet()) {
+            if (!entry.getKey().equals(OFFLOADED_SIZE_FIELD)) {
+                merged.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            if (contents == null) {
+                continue;
+            }
+            for (Map.Entry<String, BsonValue> field : contents.entrySet()) {
+                if (!field.getKey().equals("_id") && !field.getKey().equals("_class")) {
+                    merged.put(field.getKey(), field.getValue());
+                }
+            }
+        }
+        return new RawBsonDocument(merged, new BsonDocumentCodec());
+    }
+}
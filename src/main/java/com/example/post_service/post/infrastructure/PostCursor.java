@@ -0,0 +1,50 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.post.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt desc, postUuid desc) 정렬 기준 keyset 위치
+ * 클라이언트에는 불투명한 토큰(base64url)으로만 노출한다.
+ */
+public record PostCursor(LocalDateTime createdAt, String postUuid) {
+
+    private static final String DELIMITER = "|";
+
+    public static PostCursor from(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getPostUuid());
+    }
+
+    /**
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new BaseException(BaseResponseStatus.INVALID_POST_CURSOR);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    raw.substring(index + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_POST_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(createdAt) + DELIMITER + postUuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.post_service.post.infrastructure;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 export 조건
+ * - mainCategoryId / subCategoryId: null 이면 전체
+ * - updatedAfter: 이 시각 이후(포함) 수정/삭제된 게시글만 (증분 export), null 이면 전체
+ * - includeDeleted: 삭제된 게시글 포함 여부 (증분 export 에서 삭제 반영용)
+ */
+public record PostExportFilter(
+        Long mainCategoryId,
+        Long subCategoryId,
+        LocalDateTime updatedAfter,
+        boolean includeDeleted
+) {
+}
@@ -0,0 +1,48 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.mongodb.MongoException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post 에 선언된 인덱스(@CompoundIndex)를 기동 후 백그라운드로 생성한다.
+ * createIndex 는 동일 스펙이면 no-op 이므로 매 기동마다 실행해도 안전하다.
+ * 스펙 충돌(같은 이름, 다른 옵션) 이나 unique 위반은 기동을 막지 않고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexesInBackground() {
+        Thread thread = new Thread(this::createIndexes, "post-index-initializer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void createIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Post.class);
+        for (IndexDefinition index : IndexResolver.create(mongoMappingContext).resolveIndexFor(Post.class)) {
+            try {
+                String name = indexOps.ensureIndex(index);
+                log.info("Post index ensured: {}", name);
+            } catch (DataAccessException | MongoException e) {
+                log.error("Post index creation failed: {}", index.getIndexKeys(), e);
+            }
+        }
+    }
+}
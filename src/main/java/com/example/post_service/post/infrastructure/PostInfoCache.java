@@ -0,0 +1,110 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 게시글 요약 정보 near-cache
+ * - 크기(maximum-size) / TTL(expire-after-write) 기준으로 만료
+ * - 수정/삭제 이벤트 수신 시 모든 인스턴스에서 evict
+ * - 히트/미스/eviction 지표는 cache.* (name=post.info) 로 노출
+ * - 내부는 AsyncCache 이고, servlet 경로는 synchronous() 뷰를, reactive 경로는 future 를 그대로 쓴다.
+ */
+@Component
+public class PostInfoCache {
+
+    private static final String CACHE_NAME = "post.info";
+
+    private final AsyncCache<String, GetPostInfoResDto> asyncCache;
+    private final Cache<String, GetPostInfoResDto> cache;
+
+    public PostInfoCache(
+            @Value("${post.cache.info.maximum-size:50000}") long maximumSize,
+            @Value("${post.cache.info.expire-after-write:5m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, asyncCache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회 후 적재
+     * loader 가 null 을 반환하면(게시글 없음) 적재하지 않는다.
+     * 로딩 중 evict 가 들어오면 로딩이 끝난 뒤 제거되므로 stale 값이 남지 않는다.
+     */
+    public Optional<GetPostInfoResDto> get(String postUuid, Function<String, GetPostInfoResDto> loader) {
+        return Optional.ofNullable(cache.get(postUuid, loader));
+    }
+
+    /**
+     * 캐시에 없는 키들만 모아 loader 를 한 번 호출한다.
+     * 반환 맵에는 존재하는 게시글만 담긴다. (순서 보장 없음)
+     */
+    public Map<String, GetPostInfoResDto> getAll(
+            Collection<String> postUuids,
+            Function<Set<? extends String>, Map<String, GetPostInfoResDto>> loader
+    ) {
+        return cache.getAll(postUuids, loader);
+    }
+
+    /**
+     * reactive 경로용: loader 는 I/O 를 기다리지 않고 future 를 반환해야 한다.
+     * 같은 키의 동시 요청은 하나의 future 를 공유하고, null 로 완료되면 적재하지 않는다.
+     */
+    public CompletableFuture<GetPostInfoResDto> getAsync(
+            String postUuid,
+            Function<String, CompletableFuture<GetPostInfoResDto>> loader
+    ) {
+        return asyncCache.get(postUuid, (key, executor) -> loader.apply(key));
+    }
+
+    public CompletableFuture<Map<String, GetPostInfoResDto>> getAllAsync(
+            Collection<String> postUuids,
+            Function<Set<? extends String>, CompletableFuture<Map<String, GetPostInfoResDto>>> loader
+    ) {
+        return asyncCache.getAll(postUuids, (keys, executor) -> loader.apply(keys));
+    }
+
+    public void evict(String postUuid) {
+        cache.invalidate(postUuid);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 evict 한다. (롤백되면 evict 하지 않음)
+     * 커밋 전에 지우면 동시 조회가 커밋 전 문서로 다시 채워 수정/삭제가 반영되지 않은 값(과 ETag)이 남는다.
+     * 커밋 전에 시작된 로딩은 위 get 설명대로 이 evict 로 함께 제거된다.
+     */
+    public void evictAfterCommit(String postUuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(postUuid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(postUuid);
+            }
+        });
+    }
+}
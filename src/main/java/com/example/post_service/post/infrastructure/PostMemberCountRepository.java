@@ -0,0 +1,10 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostMemberCount;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostMemberCountRepository
+        extends MongoRepository<PostMemberCount, String>, PostMemberCountRepositoryCustom {
+}
@@ -0,0 +1,15 @@
+package com.example.post_service.post.infrastructure;
+
+public interface PostMemberCountRepositoryCustom {
+
+    /**
+     * 증감한다. 문서가 없으면 delta 로 만든다. (seeded=false 라 집계 전까지는 조회에 쓰지 않음)
+     * 집계 트랜잭션과 같은 문서를 쓰므로, 집계 중에 끼어든 증감은 write conflict 로 드러난다.
+     */
+    void increment(String memberUuid, long delta);
+
+    /**
+     * 집계한 postCount 로 덮어쓰고 seeded 로 표시한다. count 와 같은 Mongo 트랜잭션에서 호출해야 한다.
+     */
+    void seed(String memberUuid, long postCount);
+}
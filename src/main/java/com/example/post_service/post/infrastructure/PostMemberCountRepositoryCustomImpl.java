@@ -0,0 +1,34 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostMemberCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class PostMemberCountRepositoryCustomImpl implements PostMemberCountRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String memberUuid, long delta) {
+        mongoTemplate.upsert(
+                byMemberUuid(memberUuid),
+                new Update().inc("postCount", delta),
+                PostMemberCount.class);
+    }
+
+    @Override
+    public void seed(String memberUuid, long postCount) {
+        mongoTemplate.upsert(
+                byMemberUuid(memberUuid),
+                new Update().set("postCount", postCount).set("seeded", true),
+                PostMemberCount.class);
+    }
+
+    private Query byMemberUuid(String memberUuid) {
+        return new Query(Criteria.where("_id").is(memberUuid));
+    }
+}
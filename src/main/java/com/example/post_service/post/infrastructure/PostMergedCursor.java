@@ -0,0 +1,75 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.response.BaseResponseStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * 여러 서브 카테고리 피드를 병합할 때 사용하는 복합 커서
+ * - positions: 카테고리별 마지막으로 소비한 위치 (없으면 처음부터)
+ * - exhausted: 더 이상 조회할 게시글이 없는 카테고리
+ */
+public record PostMergedCursor(Map<Long, PostCursor> positions, Set<Long> exhausted) {
+
+    private static final String ENTRY_DELIMITER = ",";
+    private static final String KEY_DELIMITER = ":";
+    private static final String EXHAUSTED = "~";
+
+    public static PostMergedCursor decode(String token) {
+        Map<Long, PostCursor> positions = new HashMap<>();
+        Set<Long> exhausted = new HashSet<>();
+        if (token == null || token.isBlank()) {
+            return new PostMergedCursor(positions, exhausted);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            for (String entry : raw.split(ENTRY_DELIMITER)) {
+                int index = entry.indexOf(KEY_DELIMITER);
+                if (index < 0) {
+                    throw new BaseException(BaseResponseStatus.INVALID_POST_CURSOR);
+                }
+                Long categoryId = Long.valueOf(entry.substring(0, index));
+                String value = entry.substring(index + 1);
+                if (EXHAUSTED.equals(value)) {
+                    exhausted.add(categoryId);
+                } else {
+                    positions.put(categoryId, PostCursor.decode(value));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_POST_CURSOR);
+        }
+        return new PostMergedCursor(positions, exhausted);
+    }
+
+    public PostCursor positionOf(Long categoryId) {
+        return positions.get(categoryId);
+    }
+
+    public boolean isExhausted(Long categoryId) {
+        return exhausted.contains(categoryId);
+    }
+
+    /**
+     * 요청된 카테고리 중 아직 소진되지 않은 카테고리가 있는지
+     */
+    public boolean hasRemaining(List<Long> categoryIds) {
+        return categoryIds.stream().anyMatch(categoryId -> !isExhausted(categoryId));
+    }
+
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(ENTRY_DELIMITER);
+        positions.forEach((categoryId, position) -> joiner.add(categoryId + KEY_DELIMITER + position.encode()));
+        exhausted.forEach(categoryId -> joiner.add(categoryId + KEY_DELIMITER + EXHAUSTED));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
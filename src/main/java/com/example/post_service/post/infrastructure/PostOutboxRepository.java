@@ -0,0 +1,9 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostOutbox;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostOutboxRepository extends MongoRepository<PostOutbox, String>, PostOutboxRepositoryCustom {
+}
@@ -0,0 +1,37 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostOutbox;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface PostOutboxRepositoryCustom {
+
+    /**
+     * 가장 오래된 outbox 부터 limit 건 (_id asc)
+     */
+    List<PostOutbox> findRelayBatch(int limit);
+
+    /**
+     * 영구 실패 1회 기록
+     *
+     * @return 증가 후 attempts
+     */
+    int recordFailure(String id, String error);
+
+    /**
+     * post_outbox_dead_letter 로 옮긴다. (outbox 삭제와 dead letter 저장을 한 Mongo 트랜잭션으로)
+     */
+    void moveToDeadLetter(String id);
+
+    /**
+     * 컬렉션 메타데이터 기준 대략적인 적재 건수 (지표용, 전체 count 하지 않음)
+     */
+    long estimatedCount();
+
+    /**
+     * relay 리스(lease) 획득/연장. 만료됐거나 이미 owner 가 가진 리스만 가져간다.
+     * 여러 인스턴스 중 하나만 relay 하여 게시글별 발행 순서를 지킨다.
+     */
+    boolean tryAcquireRelayLease(String owner, Duration ttl);
+}
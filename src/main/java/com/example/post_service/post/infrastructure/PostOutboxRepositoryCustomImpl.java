@@ -0,0 +1,92 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostOutbox;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+public class PostOutboxRepositoryCustomImpl implements PostOutboxRepositoryCustom {
+
+    private static final String LEASE_COLLECTION = "post_outbox_lease";
+    private static final String DEAD_LETTER_COLLECTION = "post_outbox_dead_letter";
+    private static final String RELAY_LEASE_ID = "relay";
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostOutboxRepositoryCustomImpl(MongoTemplate mongoTemplate, MongoTransactionManager mongoTransactionManager) {
+        this.mongoTemplate = mongoTemplate;
+        this.transactionTemplate = new TransactionTemplate(mongoTransactionManager);
+    }
+
+    @Override
+    public List<PostOutbox> findRelayBatch(int limit) {
+        return mongoTemplate.find(
+                new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit),
+                PostOutbox.class);
+    }
+
+    @Override
+    public int recordFailure(String id, String error) {
+        PostOutbox outbox = mongoTemplate.findAndModify(
+                byId(id),
+                new Update().inc("attempts", 1).set("lastError", error),
+                FindAndModifyOptions.options().returnNew(true),
+                PostOutbox.class);
+        return outbox == null ? 0 : outbox.getAttempts();
+    }
+
+    @Override
+    public void moveToDeadLetter(String id) {
+        transactionTemplate.executeWithoutResult(status -> {
+            PostOutbox outbox = mongoTemplate.findAndRemove(byId(id), PostOutbox.class);
+            if (outbox != null) {
+                mongoTemplate.save(outbox, DEAD_LETTER_COLLECTION);
+            }
+        });
+    }
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(PostOutbox.class);
+    }
+
+    /**
+     * { _id: relay, $or: [ owner == 나, expiresAt < now ] } 에 upsert
+     * 다른 인스턴스가 유효한 리스를 갖고 있으면 매칭되지 않아 insert 를 시도하고, _id 중복으로 실패한다.
+     */
+    @Override
+    public boolean tryAcquireRelayLease(String owner, Duration ttl) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("_id").is(RELAY_LEASE_ID)
+                .orOperator(
+                        Criteria.where("owner").is(owner),
+                        Criteria.where("expiresAt").lt(Date.from(now))));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", Date.from(now.plus(ttl)));
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, LEASE_COLLECTION) != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private Query byId(String id) {
+        return new Query(Criteria.where("_id").is(id));
+    }
+}
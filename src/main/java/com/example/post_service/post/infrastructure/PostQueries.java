@@ -0,0 +1,181 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostContentsCodec;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.conversions.Bson;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PostRepositoryCustomImpl / ReactivePostRepositoryCustomImpl 공용 쿼리 형태
+ * 두 구현이 같은 인덱스를 타도록 한 곳에서만 정의한다. (PostQueryPlanTest 가 실제 명령을 explain 해 검증)
+ */
+final class PostQueries {
+
+    static final String LIVE_POST_UUID_INDEX = "ux_post_uuid_live";
+
+    static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "postUuid");
+
+    static final Bson RAW_PROJECTION = Projections.exclude("_id", "_class");
+
+    /**
+     * 상세 조회: 살아있는 게시글만 조회하므로 삭제 상태 필드는 읽지 않는다.
+     * version 은 ETag 용으로 읽고 응답에서는 PostDocumentJsonWriter 가 뺀다.
+     * offloadedContentsSize 는 본문을 합칠 때(PostContentsOffloader#merge) 본문 필드로 바뀐다.
+     */
+    static final Bson DETAIL_PROJECTION = Projections.exclude("_id", "_class", "deletedStatus", "deletedAt");
+
+    static final Bson EXPORT_SORT = Sorts.ascending("updatedAt");
+
+    private PostQueries() {
+    }
+
+    /**
+     * ix_main_category_feed / ix_sub_category_feed 를 그대로 타도록
+     * 카테고리 동등 조건 + createdAt 범위(<= cursor) 로 인덱스 구간을 잡고,
+     * 같은 createdAt 안에서는 postUuid 로 tie-break 한다.
+     */
+    static Query feed(Criteria category, PostCursor cursor, int limit) {
+        Criteria criteria = category
+                .and("deletedStatus").is(false)
+                .and("blindStatus").is(false);
+        return summaryPage(criteria, cursor, limit);
+    }
+
+    static Query memberPosts(String memberUuid, PostCursor cursor, int limit) {
+        return summaryPage(liveByMemberUuid(memberUuid), cursor, limit);
+    }
+
+    static Criteria liveByMemberUuid(String memberUuid) {
+        return Criteria.where("memberUuid").is(memberUuid).and("deletedStatus").is(false);
+    }
+
+    /**
+     * 수정/삭제 대상: 작성자 본인의 삭제되지 않은 게시글 (ux_post_uuid_live 사용)
+     * 소유권 확인을 필터에 넣어 조회-검사-저장 없이 한 번의 쓰기로 처리한다.
+     */
+    static Query liveOwnedPost(String postUuid, String memberUuid) {
+        return new Query(ownedPost(postUuid, memberUuid));
+    }
+
+    /**
+     * expectedVersion 이 있으면 version 까지 조건에 넣는다. (0 은 version 필드가 없는 기존 문서도 포함)
+     */
+    static Query liveOwnedPost(String postUuid, String memberUuid, Long expectedVersion) {
+        Criteria criteria = ownedPost(postUuid, memberUuid);
+        if (expectedVersion != null) {
+            criteria = expectedVersion == 0L
+                    ? criteria.and("version").in(Arrays.asList(0L, null))
+                    : criteria.and("version").is(expectedVersion);
+        }
+        return new Query(criteria);
+    }
+
+    private static Criteria ownedPost(String postUuid, String memberUuid) {
+        return Criteria.where("postUuid").is(postUuid)
+                .and("memberUuid").is(memberUuid)
+                .and("deletedStatus").is(false);
+    }
+
+    /**
+     * 바뀐 필드만 $set 하므로 다른 필드의 동시 수정을 덮어쓰지 않는다.
+     * 본문은 압축/분리 여부에 따라 contents / compressedContents / offloadedContentsSize 중 하나만 남긴다.
+     * (offloadedSize 가 있으면 본문은 호출자가 post_contents 에 저장)
+     */
+    static Update changes(PostChanges changes, PostContentsCompressor compressor, Integer offloadedSize, LocalDateTime now) {
+        Update update = new Update()
+                .set("updatedAt", now)
+                .inc("version", 1);
+        if (changes.title() != null) {
+            update.set("title", changes.title());
+        }
+        if (changes.contents() != null && offloadedSize != null) {
+            update.set(PostContentsOffloader.OFFLOADED_SIZE_FIELD, offloadedSize)
+                    .unset("contents")
+                    .unset(PostContentsCodec.FIELD);
+        } else if (changes.contents() != null) {
+            byte[] compressed = compressor.compress(changes.contents());
+            if (compressed == null) {
+                update.set("contents", changes.contents()).unset(PostContentsCodec.FIELD);
+            } else {
+                update.set(PostContentsCodec.FIELD, compressed).unset("contents");
+            }
+            update.unset(PostContentsOffloader.OFFLOADED_SIZE_FIELD);
+        }
+        if (changes.mainCategoryId() != null) {
+            update.set("mainCategoryId", changes.mainCategoryId());
+        }
+        if (changes.subCategoryId() != null) {
+            update.set("subCategoryId", changes.subCategoryId());
+        }
+        return update;
+    }
+
+    static Update softDelete(LocalDateTime now) {
+        return new Update()
+                .set("deletedStatus", true)
+                .set("deletedAt", now)
+                .set("updatedAt", now)
+                .inc("version", 1);
+    }
+
+    static Bson liveByPostUuid(String postUuid) {
+        return Filters.and(Filters.eq("postUuid", postUuid), Filters.eq("deletedStatus", false));
+    }
+
+    static Bson export(PostExportFilter filter) {
+        List<Bson> conditions = new ArrayList<>();
+        if (filter.mainCategoryId() != null) {
+            conditions.add(Filters.eq("mainCategoryId", filter.mainCategoryId()));
+        }
+        if (filter.subCategoryId() != null) {
+            conditions.add(Filters.eq("subCategoryId", filter.subCategoryId()));
+        }
+        if (filter.updatedAfter() != null) {
+            conditions.add(Filters.gte("updatedAt", filter.updatedAfter()));
+        }
+        if (!filter.includeDeleted()) {
+            conditions.add(Filters.eq("deletedStatus", false));
+        }
+        return conditions.isEmpty() ? Filters.empty() : Filters.and(conditions);
+    }
+
+    /**
+     * 조건이 deletedStatus 뿐이라 planner 가 인덱스를 고르지 못하므로
+     * postUuid partial index 를 힌트로 주어 covered scan 으로 처리한다.
+     */
+    static Query livePosts() {
+        return new Query(Criteria.where("deletedStatus").is(false))
+                .withHint(LIVE_POST_UUID_INDEX);
+    }
+
+    private static Query summaryPage(Criteria criteria, PostCursor cursor, int limit) {
+        Query query = new Query(withKeyset(criteria, cursor))
+                .with(FEED_SORT)
+                .limit(limit);
+        query.fields()
+                .include("postUuid", "memberUuid", "mainCategoryId", "subCategoryId", "title", "createdAt");
+        return query;
+    }
+
+    private static Criteria withKeyset(Criteria criteria, PostCursor cursor) {
+        if (cursor == null) {
+            return criteria;
+        }
+        return criteria
+                .and("createdAt").lte(cursor.createdAt())
+                .orOperator(
+                        Criteria.where("createdAt").lt(cursor.createdAt()),
+                        Criteria.where("postUuid").lt(cursor.postUuid())
+                );
+    }
+}
@@ -5,13 +5,39 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostRepository extends MongoRepository<Post, String> {
-    @Query("{ 'postUuid': ?0, 'deletedStatus': false }")
+public interface PostRepository extends MongoRepository<Post, String>, PostRepositoryCustom {
+    @Query(value = "{ 'postUuid': ?0, 'deletedStatus': false }", exists = true)
     boolean existsByPostUuid(String postUuid);
 
     @Query("{ 'postUuid': ?0, 'deletedStatus': false }")
     Optional<Post> findByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'memberUuid': 1, 'title': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    Optional<Post> findSummaryByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'contents': 1, 'compressedContents': 1, 'offloadedContentsSize': 1, 'version': 1 }"
+    )
+    Optional<Post> findContentsByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    Optional<Post> findVersionByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': { $in: ?0 }, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'memberUuid': 1, 'title': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    List<Post> findAllSummaryByPostUuidIn(Collection<String> postUuids);
 }
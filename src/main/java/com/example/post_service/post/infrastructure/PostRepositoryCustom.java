@@ -0,0 +1,87 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import org.bson.RawBsonDocument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface PostRepositoryCustom {
+
+    /**
+     * 새 게시글 저장. 본문이 post.contents.offload.threshold 이상이면 post_contents 에 따로 저장한다.
+     * (반환된 post 는 본문을 그대로 가지고 있다)
+     */
+    Post insertPost(Post post);
+
+    /**
+     * 대량 등록: 게시글을 insertMany 한 번으로 저장한다. (큰 본문은 insertPost 와 같이 post_contents 로)
+     * 트랜잭션 안에서는 첫 쓰기 오류에서 멈추고 트랜잭션 전체가 abort 되므로 unordered 로 쓸 이유가 없다.
+     */
+    void insertPosts(List<Post> posts);
+
+    /**
+     * 본문이 분리 저장된 게시글에 post_contents 의 본문을 붙인다. (대상 전체를 $in 한 번으로 조회)
+     */
+    void attachContents(Collection<Post> posts);
+
+    long countLivePosts();
+
+    /**
+     * 삭제되지 않은 게시글의 postUuid 만 커서로 스트리밍 (사용 후 반드시 close)
+     */
+    Stream<String> streamLivePostUuids(int batchSize);
+
+    /**
+     * 검색 색인 재구축용: 삭제/블라인드되지 않은 게시글의 색인 필드만 커서로 스트리밍 (사용 후 반드시 close)
+     */
+    Stream<Post> streamSearchablePosts(int batchSize);
+
+    /**
+     * 엔티티 매핑 없이 저장된 BSON 그대로 조회 (_id, _class, 삭제 상태 제외 - PostQueries#DETAIL_PROJECTION)
+     * 본문이 분리 저장되어 있으면 post_contents 의 본문 필드를 합쳐서 돌려준다.
+     */
+    Optional<RawBsonDocument> findRawDetailByPostUuid(String postUuid);
+
+    /**
+     * 메인 카테고리 피드 (삭제/블라인드 제외, createdAt desc, postUuid desc)
+     * cursor 가 null 이면 첫 페이지, 요약 필드만 projection
+     */
+    List<Post> findMainCategoryFeed(Long mainCategoryId, PostCursor cursor, int limit);
+
+    List<Post> findSubCategoryFeed(Long subCategoryId, PostCursor cursor, int limit);
+
+    /**
+     * 회원이 작성한 (삭제되지 않은) 게시글, createdAt desc, postUuid desc
+     */
+    List<Post> findMemberPosts(String memberUuid, PostCursor cursor, int limit);
+
+    long countLivePostsByMemberUuid(String memberUuid);
+
+    /**
+     * 작성자 본인의 삭제되지 않은 게시글이면(expectedVersion 이 있으면 버전까지 일치하면)
+     * 요청한 필드만 수정하고 version 을 올린 뒤 수정 전 문서와 새 version 을 반환한다. (findAndModify 1회)
+     * 본문이 바뀌면 분리 기준에 따라 post_contents 도 저장/삭제한다.
+     * 매칭되지 않으면(없음/삭제됨/권한 없음/버전 불일치) empty
+     */
+    Optional<PostUpdateResult> updateOwnedPost(String postUuid, String memberUuid, PostChanges changes);
+
+    /**
+     * 작성자 본인의 삭제되지 않은 게시글이면 soft delete 하고 version 을 올린다. (findAndModify 1회)
+     *
+     * @return 삭제 후 version, 매칭되지 않으면 empty
+     */
+    Optional<Long> softDeleteOwnedPost(String postUuid, String memberUuid);
+
+    /**
+     * 조건에 맞는 게시글을 BSON 그대로 updatedAt asc 로 커서 순회하며 consumer 에 넘긴다. (_id, _class 제외)
+     * 결과를 모으지 않으므로 메모리 사용량은 batchSize 에만 비례한다.
+     * 본문이 분리 저장된 문서만 post_contents 를 _id 로 추가 조회한다.
+     *
+     * @return 전달한 문서 수
+     */
+    long exportRaw(PostExportFilter filter, int batchSize, Consumer<RawBsonDocument> consumer);
+}
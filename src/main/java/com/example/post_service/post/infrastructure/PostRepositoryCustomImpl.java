@@ -0,0 +1,228 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContents;
+import com.example.post_service.post.entity.PostContentsCodec;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final PostContentsCompressor postContentsCompressor;
+    private final PostContentsOffloader postContentsOffloader;
+
+    @Override
+    public Post insertPost(Post post) {
+        String contents = post.getContents();
+        Integer offloadedSize = postContentsOffloader.offloadedSize(contents);
+        if (offloadedSize != null) {
+            mongoTemplate.save(postContentsOffloader.toDocument(post.getPostUuid(), contents));
+            post.offloadContents(offloadedSize);
+        }
+        return mongoTemplate.insert(post);
+    }
+
+    @Override
+    public void insertPosts(List<Post> posts) {
+        List<PostContents> offloaded = new ArrayList<>();
+        for (Post post : posts) {
+            String contents = post.getContents();
+            Integer offloadedSize = postContentsOffloader.offloadedSize(contents);
+            if (offloadedSize != null) {
+                offloaded.add(postContentsOffloader.toDocument(post.getPostUuid(), contents));
+                post.offloadContents(offloadedSize);
+            }
+        }
+        if (!offloaded.isEmpty()) {
+            mongoTemplate.insertAll(offloaded);
+        }
+        mongoTemplate.insert(posts, Post.class);
+    }
+
+    @Override
+    public void attachContents(Collection<Post> posts) {
+        Map<String, Post> offloaded = posts.stream()
+                .filter(Post::isContentsOffloaded)
+                .collect(Collectors.toMap(Post::getPostUuid, post -> post, (a, b) -> a));
+        if (offloaded.isEmpty()) {
+            return;
+        }
+        mongoTemplate.find(new Query(Criteria.where("_id").in(offloaded.keySet())), PostContents.class)
+                .forEach(contents -> offloaded.get(contents.getPostUuid()).attachContents(contents.getContents()));
+    }
+
+    @Override
+    public long countLivePosts() {
+        return mongoTemplate.count(PostQueries.livePosts(), Post.class);
+    }
+
+    @Override
+    public Stream<String> streamLivePostUuids(int batchSize) {
+        Query query = PostQueries.livePosts().cursorBatchSize(batchSize);
+        query.fields().include("postUuid").exclude("_id");
+        return mongoTemplate.stream(query, Post.class)
+                .map(Post::getPostUuid);
+    }
+
+    @Override
+    public Stream<Post> streamSearchablePosts(int batchSize) {
+        Query query = new Query(Criteria.where("deletedStatus").is(false).and("blindStatus").is(false))
+                .withHint(PostQueries.LIVE_POST_UUID_INDEX)
+                .cursorBatchSize(batchSize);
+        query.fields().include("postUuid", "mainCategoryId", "subCategoryId", "title", "contents", PostContentsCodec.FIELD,
+                PostContentsOffloader.OFFLOADED_SIZE_FIELD);
+        return mongoTemplate.stream(query, Post.class);
+    }
+
+    @Override
+    public Optional<RawBsonDocument> findRawDetailByPostUuid(String postUuid) {
+        return Optional.ofNullable(mongoTemplate.execute(Post.class, collection -> collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .find(PostQueries.liveByPostUuid(postUuid))
+                        .projection(PostQueries.DETAIL_PROJECTION)
+                        .first()))
+                .map(this::withOffloadedContents);
+    }
+
+    private RawBsonDocument withOffloadedContents(RawBsonDocument post) {
+        if (!PostContentsOffloader.isOffloaded(post)) {
+            return post;
+        }
+        RawBsonDocument contents = mongoTemplate.getCollection(PostContentsOffloader.COLLECTION)
+                .withDocumentClass(RawBsonDocument.class)
+                .find(Filters.eq("_id", post.getString("postUuid").getValue()))
+                .first();
+        return PostContentsOffloader.merge(post, contents);
+    }
+
+    @Override
+    public List<Post> findMainCategoryFeed(Long mainCategoryId, PostCursor cursor, int limit) {
+        return mongoTemplate.find(
+                PostQueries.feed(Criteria.where("mainCategoryId").is(mainCategoryId), cursor, limit), Post.class);
+    }
+
+    @Override
+    public List<Post> findSubCategoryFeed(Long subCategoryId, PostCursor cursor, int limit) {
+        return mongoTemplate.find(
+                PostQueries.feed(Criteria.where("subCategoryId").is(subCategoryId), cursor, limit), Post.class);
+    }
+
+    @Override
+    public List<Post> findMemberPosts(String memberUuid, PostCursor cursor, int limit) {
+        return mongoTemplate.find(PostQueries.memberPosts(memberUuid, cursor, limit), Post.class);
+    }
+
+    @Override
+    public long countLivePostsByMemberUuid(String memberUuid) {
+        return mongoTemplate.count(new Query(PostQueries.liveByMemberUuid(memberUuid)), Post.class);
+    }
+
+    @Override
+    public Optional<PostUpdateResult> updateOwnedPost(String postUuid, String memberUuid, PostChanges changes) {
+        Integer offloadedSize = postContentsOffloader.offloadedSize(changes.contents());
+        LocalDateTime now = LocalDateTime.now();
+        Post before = mongoTemplate.findAndModify(
+                PostQueries.liveOwnedPost(postUuid, memberUuid, changes.expectedVersion()),
+                PostQueries.changes(changes, postContentsCompressor, offloadedSize, now),
+                FindAndModifyOptions.options().returnNew(false),
+                Post.class);
+        if (before == null) {
+            return Optional.empty();
+        }
+        if (changes.contents() != null) {
+            // 이전 본문을 교체/삭제하면서 함께 받아 비교에 쓴다. (추가 조회 없음)
+            PostContents previous = null;
+            if (offloadedSize != null) {
+                previous = mongoTemplate.findAndReplace(
+                        new Query(Criteria.where("_id").is(postUuid)),
+                        postContentsOffloader.toDocument(postUuid, changes.contents()),
+                        FindAndReplaceOptions.options().upsert());
+            } else if (before.isContentsOffloaded()) {
+                previous = mongoTemplate.findAndRemove(
+                        new Query(Criteria.where("_id").is(postUuid)), PostContents.class);
+            }
+            if (previous != null && before.isContentsOffloaded()) {
+                before.attachContents(previous.getContents());
+            }
+        }
+        return Optional.of(new PostUpdateResult(before, before.getCurrentVersion() + 1, now));
+    }
+
+    @Override
+    public Optional<Long> softDeleteOwnedPost(String postUuid, String memberUuid) {
+        Query query = PostQueries.liveOwnedPost(postUuid, memberUuid);
+        query.fields().include("version");
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                        query,
+                        PostQueries.softDelete(LocalDateTime.now()),
+                        FindAndModifyOptions.options().returnNew(true),
+                        Post.class))
+                .map(Post::getCurrentVersion);
+    }
+
+    /**
+     * 카테고리 조건이 있으면 ix_*_category_updated, 없으면 ix_post_updated 를 타고
+     * 같은 인덱스 순서(updatedAt asc)로 내보내므로 정렬에 메모리를 쓰지 않는다.
+     * 소비자가 느리면 다음 getMore 가 늦어질 뿐 문서를 쌓아두지 않는다.
+     * 분리 저장된 본문은 커서 배치마다 post_contents 를 $in 한 번으로 읽어 붙인다.
+     */
+    @Override
+    public long exportRaw(PostExportFilter filter, int batchSize, Consumer<RawBsonDocument> consumer) {
+        return mongoTemplate.execute(Post.class, collection -> {
+            long count = 0;
+            try (MongoCursor<RawBsonDocument> cursor = collection
+                    .withDocumentClass(RawBsonDocument.class)
+                    .find(PostQueries.export(filter))
+                    .projection(PostQueries.RAW_PROJECTION)
+                    .sort(PostQueries.EXPORT_SORT)
+                    .batchSize(batchSize)
+                    .cursor()) {
+                List<RawBsonDocument> batch = new ArrayList<>(batchSize);
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    // 받아 둔 배치를 다 꺼냈을 때 (다음 getMore 전)
+                    if (cursor.available() == 0) {
+                        Map<String, RawBsonDocument> contents = findOffloadedContents(batch);
+                        batch.forEach(post -> consumer.accept(PostContentsOffloader.mergeIfOffloaded(post, contents)));
+                        count += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            return count;
+        });
+    }
+
+    private Map<String, RawBsonDocument> findOffloadedContents(List<RawBsonDocument> posts) {
+        List<String> postUuids = PostContentsOffloader.offloadedPostUuids(posts);
+        if (postUuids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, RawBsonDocument> contents = new HashMap<>();
+        mongoTemplate.getCollection(PostContentsOffloader.COLLECTION)
+                .withDocumentClass(RawBsonDocument.class)
+                .find(Filters.in("_id", postUuids))
+                .forEach(document -> contents.put(document.getString("_id").getValue(), document));
+        return contents;
+    }
+}
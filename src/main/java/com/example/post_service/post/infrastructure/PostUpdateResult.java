@@ -0,0 +1,24 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * updateOwnedPost 결과
+ * before 는 수정 전 문서(findAndModify returnNew=false)이다. 본문을 바꾼 경우 분리 저장되어 있던 이전 본문도 붙어 있다.
+ * 이벤트는 before 와 요청한 변경분을 비교해 실제로 바뀐 필드만 담는다. (PostUpdatedEventFactory)
+ *
+ * @param version   수정 후 version
+ * @param updatedAt 수정 후 updatedAt
+ */
+public record PostUpdateResult(
+        Post before,
+        long version,
+        LocalDateTime updatedAt
+) {
+
+    public String postUuid() {
+        return before.getPostUuid();
+    }
+}
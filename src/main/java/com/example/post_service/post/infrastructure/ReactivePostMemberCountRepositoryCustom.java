@@ -0,0 +1,13 @@
+package com.example.post_service.post.infrastructure;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * PostMemberCountRepositoryCustom 의 reactive 버전
+ */
+public interface ReactivePostMemberCountRepositoryCustom {
+
+    Mono<Void> increment(String memberUuid, long delta);
+
+    Mono<Void> seed(String memberUuid, long postCount);
+}
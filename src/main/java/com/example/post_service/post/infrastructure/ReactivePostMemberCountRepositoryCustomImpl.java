@@ -0,0 +1,37 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostMemberCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactivePostMemberCountRepositoryCustomImpl implements ReactivePostMemberCountRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> increment(String memberUuid, long delta) {
+        return reactiveMongoTemplate.upsert(
+                        byMemberUuid(memberUuid),
+                        new Update().inc("postCount", delta),
+                        PostMemberCount.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> seed(String memberUuid, long postCount) {
+        return reactiveMongoTemplate.upsert(
+                        byMemberUuid(memberUuid),
+                        new Update().set("postCount", postCount).set("seeded", true),
+                        PostMemberCount.class)
+                .then();
+    }
+
+    private Query byMemberUuid(String memberUuid) {
+        return new Query(Criteria.where("_id").is(memberUuid));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostOutbox;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * reactive 경로의 outbox insert 용 (relay 는 PostOutboxRepository 사용)
+ */
+@Repository
+public interface ReactivePostOutboxRepository extends ReactiveMongoRepository<PostOutbox, String> {
+}
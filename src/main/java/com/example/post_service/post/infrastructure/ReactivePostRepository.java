@@ -0,0 +1,48 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * reactive 프로파일 전용 (reactive Mongo 자동 설정이 켜질 때만 생성)
+ * 쿼리 형태는 PostRepository 와 동일하다.
+ */
+@Repository
+public interface ReactivePostRepository extends ReactiveMongoRepository<Post, String>, ReactivePostRepositoryCustom {
+
+    @Query(value = "{ 'postUuid': ?0, 'deletedStatus': false }", exists = true)
+    Mono<Boolean> existsByPostUuid(String postUuid);
+
+    @Query("{ 'postUuid': ?0, 'deletedStatus': false }")
+    Mono<Post> findByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'memberUuid': 1, 'title': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    Mono<Post> findSummaryByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'contents': 1, 'compressedContents': 1, 'offloadedContentsSize': 1, 'version': 1 }"
+    )
+    Mono<Post> findContentsByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': ?0, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    Mono<Post> findVersionByPostUuid(String postUuid);
+
+    @Query(
+            value = "{ 'postUuid': { $in: ?0 }, 'deletedStatus': false }",
+            fields = "{ 'postUuid': 1, 'memberUuid': 1, 'title': 1, 'version': 1, 'updatedAt': 1 }"
+    )
+    Flux<Post> findAllSummaryByPostUuidIn(Collection<String> postUuids);
+}
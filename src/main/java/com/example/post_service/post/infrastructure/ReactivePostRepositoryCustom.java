@@ -0,0 +1,45 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import org.bson.RawBsonDocument;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * PostRepositoryCustom 의 reactive 버전 (쿼리 형태는 PostQueries 공유)
+ */
+public interface ReactivePostRepositoryCustom {
+
+    Mono<Post> insertPost(Post post);
+
+    /**
+     * PostRepositoryCustom#insertPosts 와 동일 (insertMany)
+     */
+    Mono<Void> insertPosts(List<Post> posts);
+
+    /**
+     * 본문이 분리 저장된 게시글이면 post_contents 의 본문을 붙여서 돌려준다.
+     */
+    Mono<Post> attachContents(Post post);
+
+    Mono<RawBsonDocument> findRawDetailByPostUuid(String postUuid);
+
+    Flux<Post> findMainCategoryFeed(Long mainCategoryId, PostCursor cursor, int limit);
+
+    Flux<Post> findSubCategoryFeed(Long subCategoryId, PostCursor cursor, int limit);
+
+    Flux<Post> findMemberPosts(String memberUuid, PostCursor cursor, int limit);
+
+    Mono<Long> countLivePostsByMemberUuid(String memberUuid);
+
+    Mono<PostUpdateResult> updateOwnedPost(String postUuid, String memberUuid, PostChanges changes);
+
+    Mono<Long> softDeleteOwnedPost(String postUuid, String memberUuid);
+
+    /**
+     * 구독자의 요청량(request(n))만큼만 커서에서 batchSize 단위로 가져온다.
+     */
+    Flux<RawBsonDocument> exportRaw(PostExportFilter filter, int batchSize);
+}
@@ -0,0 +1,195 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContents;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReactivePostRepositoryCustomImpl implements ReactivePostRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final PostContentsCompressor postContentsCompressor;
+    private final PostContentsOffloader postContentsOffloader;
+
+    @Override
+    public Mono<Post> insertPost(Post post) {
+        return Mono.defer(() -> {
+            String contents = post.getContents();
+            Integer offloadedSize = postContentsOffloader.offloadedSize(contents);
+            if (offloadedSize == null) {
+                return reactiveMongoTemplate.insert(post);
+            }
+            return reactiveMongoTemplate.save(postContentsOffloader.toDocument(post.getPostUuid(), contents))
+                    .then(Mono.fromRunnable(() -> post.offloadContents(offloadedSize)))
+                    .then(reactiveMongoTemplate.insert(post));
+        });
+    }
+
+    @Override
+    public Mono<Void> insertPosts(List<Post> posts) {
+        return Mono.defer(() -> {
+            List<PostContents> offloaded = new ArrayList<>();
+            for (Post post : posts) {
+                String contents = post.getContents();
+                Integer offloadedSize = postContentsOffloader.offloadedSize(contents);
+                if (offloadedSize != null) {
+                    offloaded.add(postContentsOffloader.toDocument(post.getPostUuid(), contents));
+                    post.offloadContents(offloadedSize);
+                }
+            }
+            Mono<Void> insertContents = offloaded.isEmpty()
+                    ? Mono.empty()
+                    : reactiveMongoTemplate.insertAll(offloaded).then();
+            return insertContents.then(reactiveMongoTemplate.insert(posts, Post.class).then());
+        });
+    }
+
+    @Override
+    public Mono<Post> attachContents(Post post) {
+        if (!post.isContentsOffloaded()) {
+            return Mono.just(post);
+        }
+        return reactiveMongoTemplate.findById(post.getPostUuid(), PostContents.class)
+                .doOnNext(contents -> post.attachContents(contents.getContents()))
+                .thenReturn(post);
+    }
+
+    @Override
+    public Mono<RawBsonDocument> findRawDetailByPostUuid(String postUuid) {
+        return reactiveMongoTemplate.execute(Post.class, collection -> collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .find(PostQueries.liveByPostUuid(postUuid))
+                        .projection(PostQueries.DETAIL_PROJECTION)
+                        .first())
+                .next()
+                .flatMap(this::withOffloadedContents);
+    }
+
+    private Mono<RawBsonDocument> withOffloadedContents(RawBsonDocument post) {
+        if (!PostContentsOffloader.isOffloaded(post)) {
+            return Mono.just(post);
+        }
+        return Mono.from(reactiveMongoTemplate.getCollection(PostContentsOffloader.COLLECTION)
+                        .flatMap(collection -> Mono.from(collection
+                                .withDocumentClass(RawBsonDocument.class)
+                                .find(Filters.eq("_id", post.getString("postUuid").getValue()))
+                                .first())))
+                .map(contents -> PostContentsOffloader.merge(post, contents))
+                .defaultIfEmpty(PostContentsOffloader.merge(post, null));
+    }
+
+    @Override
+    public Flux<Post> findMainCategoryFeed(Long mainCategoryId, PostCursor cursor, int limit) {
+        return reactiveMongoTemplate.find(
+                PostQueries.feed(Criteria.where("mainCategoryId").is(mainCategoryId), cursor, limit), Post.class);
+    }
+
+    @Override
+    public Flux<Post> findSubCategoryFeed(Long subCategoryId, PostCursor cursor, int limit) {
+        return reactiveMongoTemplate.find(
+                PostQueries.feed(Criteria.where("subCategoryId").is(subCategoryId), cursor, limit), Post.class);
+    }
+
+    @Override
+    public Flux<Post> findMemberPosts(String memberUuid, PostCursor cursor, int limit) {
+        return reactiveMongoTemplate.find(PostQueries.memberPosts(memberUuid, cursor, limit), Post.class);
+    }
+
+    @Override
+    public Mono<Long> countLivePostsByMemberUuid(String memberUuid) {
+        return reactiveMongoTemplate.count(new Query(PostQueries.liveByMemberUuid(memberUuid)), Post.class);
+    }
+
+    @Override
+    public Mono<PostUpdateResult> updateOwnedPost(String postUuid, String memberUuid, PostChanges changes) {
+        return Mono.defer(() -> {
+            Integer offloadedSize = postContentsOffloader.offloadedSize(changes.contents());
+            LocalDateTime now = LocalDateTime.now();
+            return reactiveMongoTemplate.findAndModify(
+                            PostQueries.liveOwnedPost(postUuid, memberUuid, changes.expectedVersion()),
+                            PostQueries.changes(changes, postContentsCompressor, offloadedSize, now),
+                            FindAndModifyOptions.options().returnNew(false),
+                            Post.class)
+                    .flatMap(before -> previousContents(before, changes, offloadedSize)
+                            .doOnNext(previous -> {
+                                if (before.isContentsOffloaded()) {
+                                    before.attachContents(previous.getContents());
+                                }
+                            })
+                            .then(Mono.fromSupplier(() ->
+                                    new PostUpdateResult(before, before.getCurrentVersion() + 1, now))));
+        });
+    }
+
+    // PostRepositoryCustomImpl#updateOwnedPost 와 동일: 이전 본문을 교체/삭제하면서 함께 받는다.
+    private Mono<PostContents> previousContents(Post before, PostChanges changes, Integer offloadedSize) {
+        if (changes.contents() == null) {
+            return Mono.empty();
+        }
+        Query byPostUuid = new Query(Criteria.where("_id").is(before.getPostUuid()));
+        if (offloadedSize != null) {
+            return reactiveMongoTemplate.findAndReplace(
+                    byPostUuid,
+                    postContentsOffloader.toDocument(before.getPostUuid(), changes.contents()),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        return before.isContentsOffloaded()
+                ? reactiveMongoTemplate.findAndRemove(byPostUuid, PostContents.class)
+                : Mono.empty();
+    }
+
+    @Override
+    public Mono<Long> softDeleteOwnedPost(String postUuid, String memberUuid) {
+        return Mono.defer(() -> {
+            Query query = PostQueries.liveOwnedPost(postUuid, memberUuid);
+            query.fields().include("version");
+            return reactiveMongoTemplate.findAndModify(
+                            query,
+                            PostQueries.softDelete(LocalDateTime.now()),
+                            FindAndModifyOptions.options().returnNew(true),
+                            Post.class)
+                    .map(Post::getCurrentVersion);
+        });
+    }
+
+    @Override
+    public Flux<RawBsonDocument> exportRaw(PostExportFilter filter, int batchSize) {
+        return reactiveMongoTemplate.execute(Post.class, collection -> collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .find(PostQueries.export(filter))
+                        .projection(PostQueries.RAW_PROJECTION)
+                        .sort(PostQueries.EXPORT_SORT)
+                        .batchSize(batchSize))
+                // 본문이 분리 저장된 문서는 batchSize 건마다 post_contents 를 $in 한 번으로 읽어 붙인다. (순서 유지)
+                .buffer(batchSize)
+                .concatMap(this::mergeOffloadedContents);
+    }
+
+    private Flux<RawBsonDocument> mergeOffloadedContents(List<RawBsonDocument> posts) {
+        List<String> postUuids = PostContentsOffloader.offloadedPostUuids(posts);
+        if (postUuids.isEmpty()) {
+            return Flux.fromIterable(posts);
+        }
+        return reactiveMongoTemplate.getCollection(PostContentsOffloader.COLLECTION)
+                .flatMapMany(collection -> collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .find(Filters.in("_id", postUuids)))
+                .collectMap(contents -> contents.getString("_id").getValue())
+                .flatMapIterable(contents -> posts.stream()
+                        .map(post -> PostContentsOffloader.mergeIfOffloaded(post, contents))
+                        .toList());
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.post_service.post.infrastructure.search;
+
+public record PostSearchHit(String postUuid, double score) {
+}
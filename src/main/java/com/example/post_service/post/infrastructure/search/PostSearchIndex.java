@@ -0,0 +1,373 @@
+package com.example.post_service.post.infrastructure.search;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목/본문 인메모리 역색인 (BM25 랭킹)
+ * - 기동 직후 post 컬렉션을 커서로 읽어 배치 단위로 fork-join 병렬 색인하고, 주기적으로 재구축한다.
+ * - 생성/수정/삭제 이벤트마다 해당 게시글만 증분 반영한다.
+ *   수정은 새 docId 로 다시 추가하고 기존 docId 는 tombstone 처리하며, tombstone 은 재구축 시 정리된다.
+ * - 재구축 중 들어온 증분 변경은 모아 두었다가 교체 직전에 새 색인에 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final int streamBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // lock 으로 보호
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;
+
+    public PostSearchIndex(
+            PostRepository postRepository,
+            @Value("${post.search.stream-batch-size:2000}") int streamBatchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.streamBatchSize = streamBatchSize;
+
+        Gauge.builder("post.search.documents", this, index -> index.read(Segment::liveCount))
+                .register(meterRegistry);
+        Gauge.builder("post.search.tombstones", this, index -> index.read(s -> s.tombstones.cardinality()))
+                .register(meterRegistry);
+        Gauge.builder("post.search.terms", this, index -> index.read(s -> s.postings.size()))
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 점수 내림차순 (동점이면 최근 색인된 게시글 우선), 카테고리 조건은 null 이면 무시
+     */
+    public List<PostSearchHit> search(String query, Long mainCategoryId, Long subCategoryId, int limit) {
+        Set<String> terms = PostSearchTokenizer.termFrequencies(query).keySet();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, mainCategoryId, subCategoryId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mongo 에서 최신 상태를 읽어 반영한다. 삭제/블라인드/미존재면 색인에서 제거
+     */
+    public void refresh(String postUuid) {
+        postRepository.findByPostUuid(postUuid)
+                .filter(post -> !post.isBlindStatus())
+                .ifPresentOrElse(post -> {
+                    postRepository.attachContents(List.of(post));
+                    index(post);
+                }, () -> remove(postUuid));
+    }
+
+    public void index(Post post) {
+        IndexedDocument document = IndexedDocument.from(post);
+        apply(segment -> segment.add(document));
+    }
+
+    public void remove(String postUuid) {
+        apply(segment -> segment.remove(postUuid));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${post.search.rebuild-interval:PT6H}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment next = new Segment();
+        try (Stream<Post> posts = postRepository.streamSearchablePosts(streamBatchSize)) {
+            Iterator<Post> iterator = posts.iterator();
+            List<Post> batch = new ArrayList<>(streamBatchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == streamBatchSize || !iterator.hasNext()) {
+                    // 분리 저장된 본문은 배치마다 $in 한 번으로 붙인다.
+                    postRepository.attachContents(batch);
+                    next.appendBatch(batch);
+                    batch = new ArrayList<>(streamBatchSize);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Post search index rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        next.trim();
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(operation -> operation.accept(next));
+            pendingDuringRebuild = null;
+            segment = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Post search index rebuilt. documents={}, terms={}, postings={}B, elapsed={}ms",
+                next.liveCount, next.postings.size(), next.postingBytes(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void apply(Consumer<Segment> operation) {
+        lock.writeLock().lock();
+        try {
+            operation.accept(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(operation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private double read(ToIntFunction<Segment> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsInt(segment);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 단위 문서. 토큰화는 lock 밖(또는 fork-join 워커)에서 끝낸다.
+     */
+    private record IndexedDocument(
+            String postUuid,
+            Long mainCategoryId,
+            Long subCategoryId,
+            Map<String, Integer> termFrequencies,
+            int length
+    ) {
+
+        static IndexedDocument from(Post post) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            PostSearchTokenizer.tokenize(post.getTitle(), term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            PostSearchTokenizer.tokenize(post.getContents(), term -> frequencies.merge(term, 1, Integer::sum));
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            return new IndexedDocument(
+                    post.getPostUuid(), post.getMainCategoryId(), post.getSubCategoryId(), frequencies, length);
+        }
+    }
+
+    private record DocumentMeta(String postUuid, Long mainCategoryId, Long subCategoryId, int length) {
+
+        boolean matches(Long mainCategoryId, Long subCategoryId) {
+            return (mainCategoryId == null || Objects.equals(this.mainCategoryId, mainCategoryId))
+                    && (subCategoryId == null || Objects.equals(this.subCategoryId, subCategoryId));
+        }
+    }
+
+    private static final class Segment {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final List<DocumentMeta> documents = new ArrayList<>();
+        private final Map<String, Integer> docIds = new HashMap<>();
+        private final BitSet tombstones = new BitSet();
+        private long totalLength;
+        private int liveCount;
+
+        int liveCount() {
+            return liveCount;
+        }
+
+        void add(IndexedDocument document) {
+            remove(document.postUuid());
+            int docId = register(document);
+            document.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+        }
+
+        void remove(String postUuid) {
+            Integer docId = docIds.remove(postUuid);
+            if (docId == null) {
+                return;
+            }
+            tombstones.set(docId);
+            totalLength -= documents.get(docId).length();
+            liveCount--;
+        }
+
+        /**
+         * 배치를 fork-join 으로 토큰화/부분 색인한 뒤 docId 순서대로 이어 붙인다.
+         */
+        void appendBatch(List<Post> posts) {
+            IndexedDocument[] indexed = new IndexedDocument[posts.size()];
+            Map<String, PostingList> batchPostings = ForkJoinPool.commonPool()
+                    .invoke(new BuildTask(posts, indexed, documents.size(), 0, posts.size()));
+            for (IndexedDocument document : indexed) {
+                remove(document.postUuid());
+                register(document);
+            }
+            batchPostings.forEach((term, postingList) -> postings.merge(term, postingList, PostingList::append));
+        }
+
+        List<PostSearchHit> search(Set<String> terms, Long mainCategoryId, Long subCategoryId, int limit) {
+            if (liveCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int df = liveDocumentFrequency(postingList);
+                if (df == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                postingList.forEach((docId, tf) -> {
+                    if (tombstones.get(docId)) {
+                        return;
+                    }
+                    DocumentMeta meta = documents.get(docId);
+                    if (!meta.matches(mainCategoryId, subCategoryId)) {
+                        return;
+                    }
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * meta.length() / averageLength));
+                    scores.merge(docId, idf * norm, Double::sum);
+                });
+            }
+
+            Comparator<Map.Entry<Integer, Double>> order = Map.Entry.<Integer, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(order);
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<PostSearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, Double> entry = top.poll();
+                hits.add(new PostSearchHit(documents.get(entry.getKey()).postUuid(), entry.getValue()));
+            }
+            Collections.reverse(hits);
+            return hits;
+        }
+
+        /**
+         * tombstone 된 docId 를 뺀 문서 빈도. liveCount 와 같은 기준이어야 재구축 전에도 idf 가 틀어지거나 음수가 되지 않는다.
+         */
+        private int liveDocumentFrequency(PostingList postingList) {
+            if (tombstones.isEmpty()) {
+                return postingList.documentFrequency();
+            }
+            int[] df = {0};
+            postingList.forEach((docId, tf) -> {
+                if (!tombstones.get(docId)) {
+                    df[0]++;
+                }
+            });
+            return df[0];
+        }
+
+        void trim() {
+            postings.values().forEach(PostingList::trim);
+        }
+
+        long postingBytes() {
+            return postings.values().stream().mapToLong(PostingList::memoryBytes).sum();
+        }
+
+        private int register(IndexedDocument document) {
+            int docId = documents.size();
+            documents.add(new DocumentMeta(document.postUuid(), document.mainCategoryId(),
+                    document.subCategoryId(), document.length()));
+            docIds.put(document.postUuid(), docId);
+            totalLength += document.length();
+            liveCount++;
+            return docId;
+        }
+    }
+
+    /**
+     * [from, to) 구간을 나눠 토큰화하고 구간별 posting list 를 만든 뒤,
+     * 왼쪽(작은 docId) 뒤에 오른쪽을 이어 붙여 병합한다.
+     */
+    private static final class BuildTask extends RecursiveTask<Map<String, PostingList>> {
+
+        private static final int THRESHOLD = 256;
+
+        private final List<Post> posts;
+        private final IndexedDocument[] indexed;
+        private final int baseDocId;
+        private final int from;
+        private final int to;
+
+        BuildTask(List<Post> posts, IndexedDocument[] indexed, int baseDocId, int from, int to) {
+            this.posts = posts;
+            this.indexed = indexed;
+            this.baseDocId = baseDocId;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, PostingList> compute() {
+            if (to - from <= THRESHOLD) {
+                Map<String, PostingList> local = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    IndexedDocument document = IndexedDocument.from(posts.get(i));
+                    indexed[i] = document;
+                    int docId = baseDocId + i;
+                    document.termFrequencies().forEach((term, frequency) ->
+                            local.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+                }
+                return local;
+            }
+            int middle = (from + to) >>> 1;
+            BuildTask left = new BuildTask(posts, indexed, baseDocId, from, middle);
+            left.fork();
+            Map<String, PostingList> right = new BuildTask(posts, indexed, baseDocId, middle, to).compute();
+            Map<String, PostingList> merged = left.join();
+            right.forEach((term, postingList) -> merged.merge(term, postingList, PostingList::append));
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.post_service.post.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 검색 색인/질의 공용 토크나이저
+ * - 한글/한자/가나 연속 구간은 bigram 으로 자른다. (형태소 분석 없이 조사가 붙은 어절도 부분 일치)
+ *   예) "스프링부트는" -> 스프, 프링, 링부, 부트, 트는 / 한 글자 구간은 unigram
+ * - 그 외 영문/숫자 연속 구간은 소문자 단어 하나로 취급한다.
+ * - 나머지 문자(공백, 기호)는 구분자
+ */
+public final class PostSearchTokenizer {
+
+    private PostSearchTokenizer() {
+    }
+
+    /**
+     * @return term -> 출현 빈도
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(text, term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < codePoints.length) {
+            TokenType type = TokenType.of(codePoints[start]);
+            int end = start + 1;
+            while (end < codePoints.length && TokenType.of(codePoints[end]) == type) {
+                end++;
+            }
+            switch (type) {
+                case BIGRAM -> emitBigrams(codePoints, start, end, sink);
+                case WORD -> sink.accept(new String(codePoints, start, end - start));
+                case SEPARATOR -> {
+                }
+            }
+            start = end;
+        }
+    }
+
+    private static void emitBigrams(int[] codePoints, int start, int end, Consumer<String> sink) {
+        if (end - start == 1) {
+            sink.accept(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            sink.accept(new String(codePoints, i, 2));
+        }
+    }
+
+    private enum TokenType {
+        BIGRAM, WORD, SEPARATOR;
+
+        static TokenType of(int codePoint) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            if (script == Character.UnicodeScript.HANGUL
+                    || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA) {
+                return BIGRAM;
+            }
+            return Character.isLetterOrDigit(codePoint) ? WORD : SEPARATOR;
+        }
+    }
+}
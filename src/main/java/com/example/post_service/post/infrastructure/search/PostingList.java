@@ -0,0 +1,90 @@
+package com.example.post_service.post.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 term 의 posting list
+ * (docId delta, term frequency) 쌍을 varint 로 이어 붙인 바이트 배열로 보관한다.
+ * docId 는 항상 증가하는 순서로만 추가되어야 한다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int lastDocId = -1;
+    private int documentFrequency;
+
+    void add(int docId, int termFrequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId must increase: " + docId + " <= " + lastDocId);
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(termFrequency);
+        lastDocId = docId;
+        documentFrequency++;
+    }
+
+    /**
+     * other 의 docId 는 모두 이 리스트의 마지막 docId 보다 커야 한다. (fork-join 병합용)
+     */
+    PostingList append(PostingList other) {
+        other.forEach(this::add);
+        return this;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docId += delta;
+            consumer.accept(docId, termFrequency);
+        }
+    }
+
+    int documentFrequency() {
+        return documentFrequency;
+    }
+
+    int memoryBytes() {
+        return bytes.length;
+    }
+
+    void trim() {
+        if (bytes.length != length) {
+            bytes = Arrays.copyOf(bytes, length);
+        }
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int docId, int termFrequency);
+    }
+}
@@ -4,25 +4,58 @@ import com.example.post_service.common.entity.BaseResponseEntity;
 import com.example.post_service.common.response.BaseResponseStatus;
 import com.example.post_service.post.application.PostService;
 import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
 import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
 import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostVersionResDto;
+import com.example.post_service.post.vo.in.PostBatchReqVo;
+import com.example.post_service.post.vo.in.PostBulkCreateReqVo;
 import com.example.post_service.post.vo.in.PostCreateReqVo;
 import com.example.post_service.post.vo.in.PostUpdateReqVo;
+import com.example.post_service.post.vo.out.GetPostInfoBatchResVo;
 import com.example.post_service.post.vo.out.GetPostInfoResVo;
+import com.example.post_service.post.vo.out.PostBulkCreateResVo;
+import com.example.post_service.post.vo.out.PostContentsResVo;
+import com.example.post_service.post.vo.out.PostCursorPageResVo;
+import com.example.post_service.post.vo.out.PostSearchResVo;
+import com.example.post_service.post.vo.out.PostUpdateResVo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/post")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "post")
 @Slf4j
 public class PostController {
 
     private final PostService postService;
+    private final PostDocumentJsonWriter postDocumentJsonWriter;
+    private final PostHttpCaching postHttpCaching;
 
     /**
      * 1. 질문 등록
@@ -41,6 +74,34 @@ public class PostController {
         return new BaseResponseEntity<>(BaseResponseStatus.SUCCESS);
     }
 
+    /**
+     * 1-1. 질문 대량 등록
+     *
+     * @param memberUuid
+     * @param postBulkCreateReqVo
+     * @return
+     */
+    @Operation(
+            summary = "질문 대량 등록",
+            description = """
+                    마이그레이션/시드 import 용. 한 요청에 post.bulk-create.max-size(기본 500) 건까지 등록합니다.
+
+                    [응답]
+                    - results: 요청의 posts 와 같은 순서의 항목별 결과 (success, postUuid 또는 code/message)
+                    - 형식이 잘못된 항목(필수 필드 누락)만 실패로 응답하고 나머지는 등록합니다.
+                    - 400 (2014): 최대 건수 초과 (아무것도 등록하지 않음)
+                    - 저장 중 오류가 나면 요청 전체가 실패합니다. (아무것도 등록하지 않음)
+                    """
+    )
+    @PostMapping("/bulk-create")
+    public BaseResponseEntity<PostBulkCreateResVo> createPosts(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @RequestBody PostBulkCreateReqVo postBulkCreateReqVo
+    ) {
+        return new BaseResponseEntity<>(postService.createPosts(
+                PostCreateReqDto.listOf(memberUuid, postBulkCreateReqVo.getPosts())).toVo());
+    }
+
     /**
      * 2. 질문 수정
      *
@@ -49,27 +110,97 @@ public class PostController {
      * @param postUpdateReqVo
      * @return
      */
-    @Operation(summary = "질문 수정")
+    @Operation(
+            summary = "질문 수정",
+            description = """
+                    null 이 아닌 필드만 수정합니다.
+
+                    [요청 바디]
+                    - version: (Long, optional) 조회 시 받은 게시글 버전. 있으면 현재 버전과 같을 때만 수정합니다.
+
+                    [응답]
+                    - 성공: 수정 후 version (다음 수정 요청에 사용)
+                    - 409 (2013): 다른 요청이 먼저 수정함. result.currentVersion 에 현재 버전
+                    - 같은 요청을 재시도했는데 이미 반영되어 있으면 409 대신 성공으로 응답합니다.
+                    """
+    )
     @PatchMapping("/{postUuid}")
-    public BaseResponseEntity<Void> updatePost(
+    public BaseResponseEntity<PostUpdateResVo> updatePost(
             @RequestHeader("X-Member-UUID") String memberUuid,
             @PathVariable String postUuid,
             @RequestBody PostUpdateReqVo postUpdateReqVo
     ) {
-        postService.updatePost(memberUuid, postUuid, PostUpdateReqDto.from(postUpdateReqVo));
-        return new BaseResponseEntity<>(BaseResponseStatus.SUCCESS);
+        return new BaseResponseEntity<>(
+                postService.updatePost(memberUuid, postUuid, PostUpdateReqDto.from(postUpdateReqVo)).toVo());
     }
 
     /**
      * 3. 질문 정보 조회
+     * ETag / Last-Modified 가 요청의 If-None-Match / If-Modified-Since 와 맞으면 본문 없이 304
      *
      * @param postUuid
      * @return
      */
     @Operation(summary = "질문 정보 조회")
     @GetMapping("/{postUuid}")
-    public BaseResponseEntity<GetPostInfoResVo> getPostInfo(@PathVariable String postUuid) {
-        return new BaseResponseEntity<>(postService.getPostInfo(postUuid).toVo());
+    public ResponseEntity<BaseResponseEntity<GetPostInfoResVo>> getPostInfo(@PathVariable String postUuid) {
+        GetPostInfoResDto postInfo = postService.getPostInfo(postUuid);
+        return ResponseEntity.ok()
+                .headers(postHttpCaching.infoHeaders(postInfo))
+                .body(new BaseResponseEntity<>(postInfo.toVo()));
+    }
+
+    /**
+     * 4. 질문 상세 조회
+     * 저장된 BSON 을 그대로 JSON 으로 스트리밍 (엔티티/DTO/VO 변환 없음)
+     * 조건부 요청이면 version/updatedAt 만 먼저 조회해 바뀌지 않았을 때 본문을 읽지 않고 304
+     *
+     * @param postUuid
+     * @param webRequest
+     * @param response
+     */
+    @Operation(summary = "질문 상세 조회")
+    @GetMapping(value = "/{postUuid}/detail", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getPostDetail(
+            @PathVariable String postUuid,
+            ServletWebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, postHttpCaching.detailCacheControl());
+        if (PostHttpCaching.isConditional(
+                webRequest.getHeader(HttpHeaders.IF_NONE_MATCH), webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE))) {
+            PostVersionResDto current = postService.getPostVersion(postUuid);
+            if (webRequest.checkNotModified(
+                    PostHttpCaching.etag(current.getVersion()), PostHttpCaching.lastModified(current.getUpdatedAt()))) {
+                return;
+            }
+        }
+        RawBsonDocument post = postService.getPostDetail(postUuid);
+        postHttpCaching.detailHeaders(post).forEach((name, values) -> response.setHeader(name, values.get(0)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        postDocumentJsonWriter.writeSuccessResponse(post, response.getWriter());
+    }
+
+    @Operation(
+            summary = "질문 본문 조회 (수정 이벤트 claim-check)",
+            description = """
+                    PostUpdatedEvent 의 contentsRef 로 본문을 가져옵니다. (본문이 post.event.claim-check-threshold 보다 클 때)
+
+                    [요청 파라미터]
+                    - version: (Long, optional) 이벤트의 version. 있으면 그 버전일 때만 응답합니다.
+
+                    [응답]
+                    - 성공: postUuid, version, contents
+                    - 409 (2013): 이후 다시 수정됨. result.currentVersion 에 현재 버전 (다음 수정 이벤트를 기다리면 됩니다)
+                    """
+    )
+    @GetMapping("/{postUuid}/contents")
+    public BaseResponseEntity<PostContentsResVo> getPostContents(
+            @PathVariable String postUuid,
+            @RequestParam(required = false) Long version
+    ) {
+        return new BaseResponseEntity<>(postService.getPostContents(postUuid, version).toVo());
     }
 
     @Operation(
@@ -97,6 +228,197 @@ public class PostController {
         return new BaseResponseEntity<>(postService.existsPost(postUuid));
     }
 
+    @Operation(
+            summary = "게시글 존재 여부 일괄 확인",
+            description = """
+                    여러 게시글 UUID 의 존재 여부를 한 번에 확인합니다.
+
+                    [요청 경로]
+                    - POST /api/v1/post/exist/batch
+
+                    [요청 바디]
+                    - postUuids: (List<String>) 게시글 고유 식별자 목록 (최대 post.batch.max-size 개)
+
+                    [응답 필드]
+                    - existsPosts: (Map<String, boolean>) 요청 순서대로 postUuid -> 존재 여부, 중복 UUID 는 한 번만 포함
+                    """
+    )
+    @PostMapping("/exist/batch")
+    public BaseResponseEntity<ExistsPostBatchResDto> existsPosts(
+            @RequestBody PostBatchReqVo postBatchReqVo
+    ) {
+        return new BaseResponseEntity<>(postService.existsPosts(postBatchReqVo.getPostUuids()));
+    }
+
+    @Operation(
+            summary = "질문 정보 일괄 조회",
+            description = """
+                    여러 게시글의 요약 정보(작성자, 제목)를 한 번에 조회합니다.
+
+                    [요청 경로]
+                    - POST /api/v1/post/batch
+
+                    [요청 바디]
+                    - postUuids: (List<String>) 게시글 고유 식별자 목록 (최대 post.batch.max-size 개)
+
+                    [응답 필드]
+                    - posts: (Map<String, GetPostInfoResVo>) 요청 순서대로 존재하는 게시글만 포함
+                    - missingPostUuids: (List<String>) 존재하지 않거나 삭제된 게시글 UUID
+                    """
+    )
+    @PostMapping("/batch")
+    public BaseResponseEntity<GetPostInfoBatchResVo> getPostInfos(
+            @RequestBody PostBatchReqVo postBatchReqVo
+    ) {
+        return new BaseResponseEntity<>(postService.getPostInfos(postBatchReqVo.getPostUuids()).toVo());
+    }
+
+    @Operation(
+            summary = "메인 카테고리별 질문 목록 조회",
+            description = """
+                    메인 카테고리에 속한 질문 목록을 최신순으로 조회합니다. (삭제/블라인드 제외)
+
+                    [요청 파라미터]
+                    - cursor: (String, optional) 이전 응답의 nextCursor, 없으면 첫 페이지
+                    - size: (int, optional) 페이지 크기 (기본 post.feed.default-size, 최대 post.feed.max-size)
+
+                    [응답 필드]
+                    - posts: 질문 요약 목록
+                    - nextCursor: 다음 페이지 커서 (마지막 페이지면 null)
+                    - hasNext: 다음 페이지 존재 여부
+                    """
+    )
+    @GetMapping("/list/main/{mainCategoryId}")
+    public BaseResponseEntity<PostCursorPageResVo> getMainCategoryPosts(
+            @PathVariable Long mainCategoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return new BaseResponseEntity<>(postService.getMainCategoryPosts(mainCategoryId, cursor, size).toVo());
+    }
+
+    @Operation(summary = "서브 카테고리별 질문 목록 조회")
+    @GetMapping("/list/sub/{subCategoryId}")
+    public BaseResponseEntity<PostCursorPageResVo> getSubCategoryPosts(
+            @PathVariable Long subCategoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return new BaseResponseEntity<>(postService.getSubCategoryPosts(subCategoryId, cursor, size).toVo());
+    }
+
+    @Operation(
+            summary = "여러 서브 카테고리 질문 목록 병합 조회",
+            description = """
+                    여러 서브 카테고리의 질문을 하나의 최신순 목록으로 병합해 조회합니다.
+
+                    [요청 파라미터]
+                    - subCategoryIds: (List<Long>) 서브 카테고리 ID 목록 (최대 post.feed.max-categories 개)
+                    - cursor: (String, optional) 이전 응답의 nextCursor (카테고리별 위치를 담은 복합 커서)
+                    - size: (int, optional) 페이지 크기
+                    """
+    )
+    @GetMapping("/list/sub")
+    public BaseResponseEntity<PostCursorPageResVo> getMergedSubCategoryPosts(
+            @RequestParam List<Long> subCategoryIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return new BaseResponseEntity<>(
+                postService.getMergedSubCategoryPosts(subCategoryIds, cursor, size).toVo());
+    }
+
+    @Operation(summary = "회원별 질문 목록 조회", description = "회원이 작성한 질문 요약 목록을 최신순으로 조회합니다. (삭제 제외)")
+    @GetMapping("/list/member/{memberUuid}")
+    public BaseResponseEntity<PostCursorPageResVo> getMemberPosts(
+            @PathVariable String memberUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return new BaseResponseEntity<>(postService.getMemberPosts(memberUuid, cursor, size).toVo());
+    }
+
+    @Operation(summary = "회원별 질문 수 조회")
+    @GetMapping("/list/member/{memberUuid}/count")
+    public BaseResponseEntity<PostMemberCountResDto> getMemberPostCount(@PathVariable String memberUuid) {
+        return new BaseResponseEntity<>(postService.getMemberPostCount(memberUuid));
+    }
+
+    @Operation(
+            summary = "질문 검색",
+            description = """
+                    제목/본문 전문 검색 결과를 관련도 순 postUuid 목록으로 반환합니다. (삭제/블라인드 제외)
+                    한글은 2-gram 단위로 색인되어 조사가 붙은 어절도 부분 일치합니다.
+
+                    [요청 파라미터]
+                    - query: (String) 검색어 (최대 post.search.max-query-length 자)
+                    - mainCategoryId: (Long, optional) 메인 카테고리
+                    - subCategoryId: (Long, optional) 서브 카테고리
+                    - size: (int, optional) 최대 결과 수
+
+                    [응답 필드]
+                    - postUuids: 관련도 내림차순 게시글 UUID 목록
+                    """
+    )
+    @GetMapping("/search")
+    public BaseResponseEntity<PostSearchResVo> searchPosts(
+            @RequestParam String query,
+            @RequestParam(required = false) Long mainCategoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(required = false) Integer size
+    ) {
+        return new BaseResponseEntity<>(
+                postService.searchPosts(query, mainCategoryId, subCategoryId, size).toVo());
+    }
+
+    @Operation(
+            summary = "질문 일괄 export (NDJSON)",
+            description = """
+                    저장된 게시글을 한 줄에 하나씩 JSON 으로 스트리밍합니다. (updatedAt 오름차순)
+                    Mongo 커서에서 읽는 즉시 응답으로 기록하므로 결과 전체를 메모리에 올리지 않습니다.
+
+                    [요청 파라미터]
+                    - mainCategoryId: (Long, optional) 메인 카테고리
+                    - subCategoryId: (Long, optional) 서브 카테고리
+                    - updatedAfter: (ISO date-time, optional) 이 시각 이후 수정/삭제된 게시글만 (증분 export)
+                    - includeDeleted: (boolean, default false) 삭제된 게시글 포함 여부
+
+                    [응답]
+                    - application/x-ndjson, 마지막 줄의 updatedAt 을 다음 증분 export 의 updatedAfter 로 사용
+                    """
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPosts(
+            @RequestParam(required = false) Long mainCategoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        // getWriter()(PrintWriter) 는 IOException 을 삼키므로 클라이언트가 끊겨도 커서를 계속 돌게 된다.
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        PostExportReqDto postExportReqDto = PostExportReqDto.builder()
+                .mainCategoryId(mainCategoryId)
+                .subCategoryId(subCategoryId)
+                .updatedAfter(updatedAfter)
+                .includeDeleted(includeDeleted)
+                .build();
+        long count = postService.exportPosts(postExportReqDto, post -> {
+            try {
+                postDocumentJsonWriter.writeDocument(post, writer);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        log.info("post export finished: {} documents", count);
+    }
+
     @DeleteMapping("{postUuid}")
     public BaseResponseEntity<Void> deletePost(
             @RequestHeader("X-Member-UUID") String memberUuid,
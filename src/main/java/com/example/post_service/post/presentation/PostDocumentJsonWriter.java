@@ -0,0 +1,144 @@
+package com.example.post_service.post.presentation;
+
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.example.post_service.post.entity.PostContentsCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * 저장된 게시글 BSON 을 엔티티/DTO/VO 를 거치지 않고 바로 JSON 으로 기록한다.
+ * 날짜는 Jackson 의 LocalDateTime 직렬화와 같은 형식(ISO_LOCAL_DATE_TIME)으로 맞춘다.
+ * 압축 저장된 본문(compressedContents)은 이 시점에 풀어서 같은 자리에 contents 로 기록한다.
+ * 성공 응답 envelope 는 애플리케이션 ObjectMapper 가 BaseResponseEntity 를 직렬화한 결과에서 잘라 쓴다.
+ */
+@Component
+public class PostDocumentJsonWriter {
+
+    // 상세 조회 응답에서 빼는 필드. version 은 ETag 를 만들려고 조회만 한다. (PostHttpCaching#detailHeaders)
+    private static final Set<String> DETAIL_HIDDEN_FIELDS = Set.of("version");
+
+    private static final String RESULT_PLACEHOLDER = "__post_document__";
+
+    private static final BsonValueCodec VALUE_CODEC = new BsonValueCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final JsonWriterSettings settings = JsonWriterSettings.builder()
+            .outputMode(JsonMode.RELAXED)
+            .dateTimeConverter((value, writer) -> writer.writeString(
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                            LocalDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneId.systemDefault()))))
+            .build();
+
+    private final String successResponsePrefix;
+    private final String successResponseSuffix;
+
+    public PostDocumentJsonWriter(ObjectMapper objectMapper) {
+        try {
+            String envelope = objectMapper.writeValueAsString(new BaseResponseEntity<>(RESULT_PLACEHOLDER));
+            String result = objectMapper.writeValueAsString(RESULT_PLACEHOLDER);
+            int at = envelope.indexOf(result);
+            this.successResponsePrefix = envelope.substring(0, at);
+            this.successResponseSuffix = envelope.substring(at + result.length());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("BaseResponseEntity 직렬화 실패", e);
+        }
+    }
+
+    public void writeSuccessResponse(RawBsonDocument document, Writer writer) throws IOException {
+        writer.write(successResponsePrefix);
+        writeDocument(document, writer, DETAIL_HIDDEN_FIELDS);
+        writer.write(successResponseSuffix);
+        writer.flush();
+    }
+
+    /**
+     * export 용: 조회한 필드를 모두 기록한다.
+     */
+    public void writeDocument(RawBsonDocument document, Writer writer) {
+        writeDocument(document, writer, Set.of());
+    }
+
+    // raw 바이트를 필드 단위로 읽어 그대로 옮긴다. (필드 순서 유지, 문서 전체를 복사하지 않음)
+    private void writeDocument(RawBsonDocument document, Writer writer, Set<String> hiddenFields) {
+        JsonWriter jsonWriter = new JsonWriter(writer, settings);
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            jsonWriter.writeStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                if (hiddenFields.contains(name)) {
+                    reader.skipValue();
+                } else if (name.equals(PostContentsCodec.FIELD)) {
+                    jsonWriter.writeString("contents", PostContentsCodec.decode(reader.readBinaryData().getData()));
+                } else {
+                    jsonWriter.writeName(name);
+                    VALUE_CODEC.encode(jsonWriter, VALUE_CODEC.decode(reader, DECODER_CONTEXT), ENCODER_CONTEXT);
+                }
+            }
+            reader.readEndDocument();
+            jsonWriter.writeEndDocument();
+        }
+    }
+
+    /**
+     * reactive 경로용: 성공 응답 전체를 하나의 DataBuffer 로 만든다.
+     */
+    public DataBuffer writeSuccessResponse(RawBsonDocument document, DataBufferFactory bufferFactory) {
+        return writeToBuffer(document, bufferFactory, writer -> writeSuccessResponse(document, writer));
+    }
+
+    /**
+     * reactive export 용: 문서 하나를 NDJSON 한 줄로 만든다.
+     */
+    public DataBuffer writeLine(RawBsonDocument document, DataBufferFactory bufferFactory) {
+        return writeToBuffer(document, bufferFactory, writer -> {
+            writeDocument(document, writer);
+            writer.write('\n');
+        });
+    }
+
+    private DataBuffer writeToBuffer(RawBsonDocument document, DataBufferFactory bufferFactory, WriterAction action) {
+        // JSON 은 보통 BSON 보다 조금 크다. 부족하면 asOutputStream 이 버퍼를 늘린다.
+        DataBuffer buffer = bufferFactory.allocateBuffer(document.getByteBuffer().remaining() + 128);
+        try (Writer writer = new OutputStreamWriter(buffer.asOutputStream(), StandardCharsets.UTF_8)) {
+            action.write(writer);
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+        return buffer;
+    }
+
+    @FunctionalInterface
+    private interface WriterAction {
+        void write(Writer writer) throws IOException;
+    }
+}
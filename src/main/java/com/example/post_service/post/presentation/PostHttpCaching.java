@@ -0,0 +1,83 @@
+package com.example.post_service.post.presentation;
+
+import com.example.post_service.post.dto.out.GetPostInfoResDto;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 조회 응답의 ETag / Last-Modified / Cache-Control (PostController, ReactivePostController 공용)
+ * - ETag 는 version 으로 만든다. 수정/삭제마다 version 이 올라가므로 같은 version 이면 같은 내용이다.
+ *   다만 압축/분리 마이그레이션처럼 저장 형식만 바뀌어 필드 순서가 달라질 수 있어 weak ETag 를 쓴다.
+ * - Last-Modified 는 updatedAt (초 단위라 If-None-Match 가 함께 오면 그쪽으로 판단한다)
+ * - Cache-Control 은 엔드포인트별 설정값을 그대로 쓴다. (post.http-cache.*.cache-control)
+ */
+@Component
+public class PostHttpCaching {
+
+    private final String infoCacheControl;
+    private final String detailCacheControl;
+
+    public PostHttpCaching(
+            @Value("${post.http-cache.info.cache-control:no-cache}") String infoCacheControl,
+            @Value("${post.http-cache.detail.cache-control:no-cache}") String detailCacheControl
+    ) {
+        this.infoCacheControl = infoCacheControl;
+        this.detailCacheControl = detailCacheControl;
+    }
+
+    /**
+     * GET /{postUuid}: 캐시된 요약 정보와 같은 시점의 version 으로 만든다. (DB 조회 없음)
+     */
+    public HttpHeaders infoHeaders(GetPostInfoResDto postInfo) {
+        return headers(etag(postInfo.getVersion()), lastModified(postInfo.getUpdatedAt()), infoCacheControl);
+    }
+
+    /**
+     * GET /{postUuid}/detail: 실제로 내려보내는 raw 문서의 version/updatedAt 으로 만든다.
+     * (version 은 응답 본문에서는 빠지고 ETag 로만 내려간다. PostDocumentJsonWriter)
+     */
+    public HttpHeaders detailHeaders(RawBsonDocument post) {
+        BsonValue version = post.get("version");
+        BsonValue updatedAt = post.get("updatedAt");
+        return headers(
+                etag(version != null && version.isNumber() ? version.asNumber().longValue() : 0L),
+                updatedAt != null && updatedAt.isDateTime() ? updatedAt.asDateTime().getValue() : -1,
+                detailCacheControl);
+    }
+
+    public String detailCacheControl() {
+        return detailCacheControl;
+    }
+
+    public static boolean isConditional(String ifNoneMatch, String ifModifiedSince) {
+        return ifNoneMatch != null || ifModifiedSince != null;
+    }
+
+    public static String etag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * @return epoch millis, updatedAt 이 없으면 -1 (Last-Modified 를 쓰지 않음)
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        // Spring Data Mongo 가 LocalDateTime 을 시스템 기본 시간대로 저장하므로 같은 시간대로 바꾼다.
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static HttpHeaders headers(String etag, long lastModified, String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        if (lastModified >= 0) {
+            headers.setLastModified(lastModified);
+        }
+        headers.setCacheControl(cacheControl);
+        return headers;
+    }
+}
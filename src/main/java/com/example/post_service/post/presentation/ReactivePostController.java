@@ -0,0 +1,278 @@
+package com.example.post_service.post.presentation;
+
+import com.example.post_service.common.entity.BaseResponseEntity;
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.post.application.ReactivePostService;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.dto.in.PostExportReqDto;
+import com.example.post_service.post.dto.in.PostUpdateReqDto;
+import com.example.post_service.post.dto.out.ExistsPostBatchResDto;
+import com.example.post_service.post.dto.out.ExistsPostDto;
+import com.example.post_service.post.dto.out.PostBulkCreateResDto;
+import com.example.post_service.post.dto.out.GetPostInfoBatchResDto;
+import com.example.post_service.post.dto.out.PostContentsResDto;
+import com.example.post_service.post.dto.out.PostCursorPageResDto;
+import com.example.post_service.post.dto.out.PostMemberCountResDto;
+import com.example.post_service.post.dto.out.PostSearchResDto;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.vo.in.PostBatchReqVo;
+import com.example.post_service.post.vo.in.PostBulkCreateReqVo;
+import com.example.post_service.post.vo.in.PostCreateReqVo;
+import com.example.post_service.post.vo.in.PostUpdateReqVo;
+import com.example.post_service.post.vo.out.GetPostInfoBatchResVo;
+import com.example.post_service.post.vo.out.GetPostInfoResVo;
+import com.example.post_service.post.vo.out.PostBulkCreateResVo;
+import com.example.post_service.post.vo.out.PostContentsResVo;
+import com.example.post_service.post.vo.out.PostCursorPageResVo;
+import com.example.post_service.post.vo.out.PostSearchResVo;
+import com.example.post_service.post.vo.out.PostUpdateResVo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * reactive 프로파일(WebFlux)용 PostController
+ * 경로와 BaseResponseEntity 응답 형식은 PostController 와 동일하다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/post")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "post")
+@Slf4j
+public class ReactivePostController {
+
+    private final ReactivePostService reactivePostService;
+    private final PostDocumentJsonWriter postDocumentJsonWriter;
+    private final PostHttpCaching postHttpCaching;
+
+    @Operation(summary = "질문 등록")
+    @PostMapping("/create")
+    public Mono<BaseResponseEntity<Void>> createPost(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @RequestBody PostCreateReqVo postCreateReqVo
+    ) {
+        return reactivePostService.createPost(PostCreateReqDto.of(memberUuid, postCreateReqVo))
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+
+    @Operation(
+            summary = "질문 대량 등록",
+            description = """
+                    마이그레이션/시드 import 용. 한 요청에 post.bulk-create.max-size(기본 500) 건까지 등록합니다.
+
+                    [응답]
+                    - results: 요청의 posts 와 같은 순서의 항목별 결과 (success, postUuid 또는 code/message)
+                    - 형식이 잘못된 항목(필수 필드 누락)만 실패로 응답하고 나머지는 등록합니다.
+                    - 400 (2014): 최대 건수 초과 (아무것도 등록하지 않음)
+                    - 저장 중 오류가 나면 요청 전체가 실패합니다. (아무것도 등록하지 않음)
+                    """
+    )
+    @PostMapping("/bulk-create")
+    public Mono<BaseResponseEntity<PostBulkCreateResVo>> createPosts(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @RequestBody PostBulkCreateReqVo postBulkCreateReqVo
+    ) {
+        return reactivePostService.createPosts(PostCreateReqDto.listOf(memberUuid, postBulkCreateReqVo.getPosts()))
+                .map(PostBulkCreateResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "질문 수정")
+    @PatchMapping("/{postUuid}")
+    public Mono<BaseResponseEntity<PostUpdateResVo>> updatePost(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @PathVariable String postUuid,
+            @RequestBody PostUpdateReqVo postUpdateReqVo
+    ) {
+        return reactivePostService.updatePost(memberUuid, postUuid, PostUpdateReqDto.from(postUpdateReqVo))
+                .map(PostUpdateResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "질문 정보 조회")
+    @GetMapping("/{postUuid}")
+    public Mono<ResponseEntity<BaseResponseEntity<GetPostInfoResVo>>> getPostInfo(@PathVariable String postUuid) {
+        return reactivePostService.getPostInfo(postUuid)
+                .map(postInfo -> ResponseEntity.ok()
+                        .headers(postHttpCaching.infoHeaders(postInfo))
+                        .body(new BaseResponseEntity<>(postInfo.toVo())));
+    }
+
+    // PostController#getPostDetail 과 동일 (조건부 요청이면 version/updatedAt 만 먼저 조회)
+    @Operation(summary = "질문 상세 조회")
+    @GetMapping(value = "/{postUuid}/detail", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Void> getPostDetail(@PathVariable String postUuid, ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setCacheControl(postHttpCaching.detailCacheControl());
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        Mono<Boolean> notModified = PostHttpCaching.isConditional(
+                requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH), requestHeaders.getFirst(HttpHeaders.IF_MODIFIED_SINCE))
+                ? reactivePostService.getPostVersion(postUuid)
+                        .map(current -> exchange.checkNotModified(
+                                PostHttpCaching.etag(current.getVersion()),
+                                Instant.ofEpochMilli(PostHttpCaching.lastModified(current.getUpdatedAt()))))
+                : Mono.just(false);
+        return notModified.flatMap(unchanged -> unchanged
+                ? response.setComplete()
+                : writeDetail(postUuid, response));
+    }
+
+    private Mono<Void> writeDetail(String postUuid, ServerHttpResponse response) {
+        return reactivePostService.getPostDetail(postUuid)
+                .flatMap(post -> {
+                    response.getHeaders().putAll(postHttpCaching.detailHeaders(post));
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return response.writeWith(Mono.fromSupplier(() ->
+                            postDocumentJsonWriter.writeSuccessResponse(post, response.bufferFactory())));
+                });
+    }
+
+    @Operation(summary = "질문 본문 조회 (수정 이벤트 claim-check)")
+    @GetMapping("/{postUuid}/contents")
+    public Mono<BaseResponseEntity<PostContentsResVo>> getPostContents(
+            @PathVariable String postUuid,
+            @RequestParam(required = false) Long version
+    ) {
+        return reactivePostService.getPostContents(postUuid, version)
+                .map(PostContentsResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "게시글 존재 여부 확인")
+    @GetMapping("/exist/{postUuid}")
+    public Mono<BaseResponseEntity<ExistsPostDto>> existsPost(@PathVariable String postUuid) {
+        return reactivePostService.existsPost(postUuid)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "게시글 존재 여부 일괄 확인")
+    @PostMapping("/exist/batch")
+    public Mono<BaseResponseEntity<ExistsPostBatchResDto>> existsPosts(@RequestBody PostBatchReqVo postBatchReqVo) {
+        return reactivePostService.existsPosts(postBatchReqVo.getPostUuids())
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "질문 정보 일괄 조회")
+    @PostMapping("/batch")
+    public Mono<BaseResponseEntity<GetPostInfoBatchResVo>> getPostInfos(@RequestBody PostBatchReqVo postBatchReqVo) {
+        return reactivePostService.getPostInfos(postBatchReqVo.getPostUuids())
+                .map(GetPostInfoBatchResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "메인 카테고리별 질문 목록 조회")
+    @GetMapping("/list/main/{mainCategoryId}")
+    public Mono<BaseResponseEntity<PostCursorPageResVo>> getMainCategoryPosts(
+            @PathVariable Long mainCategoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reactivePostService.getMainCategoryPosts(mainCategoryId, cursor, size)
+                .map(PostCursorPageResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "서브 카테고리별 질문 목록 조회")
+    @GetMapping("/list/sub/{subCategoryId}")
+    public Mono<BaseResponseEntity<PostCursorPageResVo>> getSubCategoryPosts(
+            @PathVariable Long subCategoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reactivePostService.getSubCategoryPosts(subCategoryId, cursor, size)
+                .map(PostCursorPageResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "여러 서브 카테고리 질문 목록 병합 조회")
+    @GetMapping("/list/sub")
+    public Mono<BaseResponseEntity<PostCursorPageResVo>> getMergedSubCategoryPosts(
+            @RequestParam List<Long> subCategoryIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reactivePostService.getMergedSubCategoryPosts(subCategoryIds, cursor, size)
+                .map(PostCursorPageResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "회원별 질문 목록 조회")
+    @GetMapping("/list/member/{memberUuid}")
+    public Mono<BaseResponseEntity<PostCursorPageResVo>> getMemberPosts(
+            @PathVariable String memberUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reactivePostService.getMemberPosts(memberUuid, cursor, size)
+                .map(PostCursorPageResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "회원별 질문 수 조회")
+    @GetMapping("/list/member/{memberUuid}/count")
+    public Mono<BaseResponseEntity<PostMemberCountResDto>> getMemberPostCount(@PathVariable String memberUuid) {
+        return reactivePostService.getMemberPostCount(memberUuid)
+                .map(BaseResponseEntity::new);
+    }
+
+    @Operation(summary = "질문 검색")
+    @GetMapping("/search")
+    public Mono<BaseResponseEntity<PostSearchResVo>> searchPosts(
+            @RequestParam String query,
+            @RequestParam(required = false) Long mainCategoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(required = false) Integer size
+    ) {
+        return reactivePostService.searchPosts(query, mainCategoryId, subCategoryId, size)
+                .map(PostSearchResDto::toVo)
+                .map(BaseResponseEntity::new);
+    }
+
+    /**
+     * 클라이언트의 소비 속도(demand)에 맞춰 커서에서 batch-size 단위로 가져온다.
+     */
+    @Operation(summary = "질문 일괄 export (NDJSON)")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<Void> exportPosts(
+            @RequestParam(required = false) Long mainCategoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            ServerHttpResponse response
+    ) {
+        PostExportReqDto postExportReqDto = PostExportReqDto.builder()
+                .mainCategoryId(mainCategoryId)
+                .subCategoryId(subCategoryId)
+                .updatedAfter(updatedAfter)
+                .includeDeleted(includeDeleted)
+                .build();
+        response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return response.writeWith(reactivePostService.exportPosts(postExportReqDto)
+                .map(post -> postDocumentJsonWriter.writeLine(post, response.bufferFactory())));
+    }
+
+    @DeleteMapping("{postUuid}")
+    public Mono<BaseResponseEntity<Void>> deletePost(
+            @RequestHeader("X-Member-UUID") String memberUuid,
+            @PathVariable String postUuid
+    ) {
+        return reactivePostService.softDeletePost(memberUuid, postUuid)
+                .thenReturn(new BaseResponseEntity<>(BaseResponseStatus.SUCCESS));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.post_service.post.vo.in;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostBulkCreateReqVo {
+    private List<PostCreateReqVo> posts;
+}
@@ -14,4 +14,6 @@ public class PostUpdateReqVo {
     private String contents;
     private Long mainCategoryId;
     private Long subCategoryId;
+    // 수정 기준 버전 (조회 시 받은 version). 없으면 버전 확인 없이 수정
+    private Long version;
 }
\ No newline at end of file
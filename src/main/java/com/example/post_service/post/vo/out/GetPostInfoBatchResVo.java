@@ -0,0 +1,22 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class GetPostInfoBatchResVo {
+
+    private Map<String, GetPostInfoResVo> posts;
+    private List<String> missingPostUuids;
+
+    @Builder
+    public GetPostInfoBatchResVo(Map<String, GetPostInfoResVo> posts, List<String> missingPostUuids) {
+        this.posts = posts;
+        this.missingPostUuids = missingPostUuids;
+    }
+}
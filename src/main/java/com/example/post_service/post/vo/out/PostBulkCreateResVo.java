@@ -0,0 +1,24 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostBulkCreateResVo {
+
+    private int createdCount;
+    private int failedCount;
+    // 요청의 posts 와 같은 순서
+    private List<PostCreateResVo> results;
+
+    @Builder
+    public PostBulkCreateResVo(int createdCount, int failedCount, List<PostCreateResVo> results) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+}
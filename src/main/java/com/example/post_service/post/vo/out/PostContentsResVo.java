@@ -0,0 +1,21 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostContentsResVo {
+
+    private String postUuid;
+    private long version;
+    private String contents;
+
+    @Builder
+    public PostContentsResVo(String postUuid, long version, String contents) {
+        this.postUuid = postUuid;
+        this.version = version;
+        this.contents = contents;
+    }
+}
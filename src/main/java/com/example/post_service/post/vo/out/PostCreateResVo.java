@@ -1,7 +1,24 @@
 package com.example.post_service.post.vo.out;
 
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class PostCreateResVo {
+
+    private boolean success;
+    private String postUuid;
+    // 실패한 경우에만 (BaseResponseStatus code / message)
+    private Integer code;
+    private String message;
+
+    @Builder
+    public PostCreateResVo(boolean success, String postUuid, Integer code, String message) {
+        this.success = success;
+        this.postUuid = postUuid;
+        this.code = code;
+        this.message = message;
+    }
 }
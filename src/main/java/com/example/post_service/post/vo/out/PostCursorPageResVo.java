@@ -0,0 +1,23 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostCursorPageResVo {
+
+    private List<PostSummaryResVo> posts;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public PostCursorPageResVo(List<PostSummaryResVo> posts, String nextCursor, boolean hasNext) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
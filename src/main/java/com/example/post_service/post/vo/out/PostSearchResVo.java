@@ -0,0 +1,21 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostSearchResVo {
+
+    private String query;
+    private List<String> postUuids;
+
+    @Builder
+    public PostSearchResVo(String query, List<String> postUuids) {
+        this.query = query;
+        this.postUuids = postUuids;
+    }
+}
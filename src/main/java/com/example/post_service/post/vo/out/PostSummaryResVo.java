@@ -0,0 +1,36 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class PostSummaryResVo {
+
+    private String postUuid;
+    private String memberUuid;
+    private Long mainCategoryId;
+    private Long subCategoryId;
+    private String title;
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PostSummaryResVo(
+            String postUuid,
+            String memberUuid,
+            Long mainCategoryId,
+            Long subCategoryId,
+            String title,
+            LocalDateTime createdAt
+    ) {
+        this.postUuid = postUuid;
+        this.memberUuid = memberUuid;
+        this.mainCategoryId = mainCategoryId;
+        this.subCategoryId = subCategoryId;
+        this.title = title;
+        this.createdAt = createdAt;
+    }
+}
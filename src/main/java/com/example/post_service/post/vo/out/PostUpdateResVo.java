@@ -0,0 +1,20 @@
+package com.example.post_service.post.vo.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostUpdateResVo {
+
+    private String postUuid;
+    // 수정 후 버전 (다음 수정 요청의 version 으로 사용)
+    private long version;
+
+    @Builder
+    public PostUpdateResVo(String postUuid, long version) {
+        this.postUuid = postUuid;
+        this.version = version;
+    }
+}
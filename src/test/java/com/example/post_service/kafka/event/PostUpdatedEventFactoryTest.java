@@ -0,0 +1,74 @@
+package com.example.post_service.kafka.event;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostChanges;
+import com.example.post_service.post.infrastructure.PostUpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostUpdatedEventFactoryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostUpdatedEventFactory factory =
+            new PostUpdatedEventFactory(DataSize.ofBytes(16), meterRegistry);
+
+    private final Post before = Post.builder()
+            .postUuid("p1")
+            .memberUuid("member")
+            .mainCategoryId(1L)
+            .subCategoryId(2L)
+            .title("title")
+            .contents("contents")
+            .build();
+
+    @Test
+    void omitsRequestedFieldsEqualToStoredValues() {
+        PostChanges changes = new PostChanges("title", "contents", 1L, 2L, null);
+
+        PostUpdatedEvent event = factory.create(new PostUpdateResult(before, 1L, UPDATED_AT), changes);
+
+        assertThat(event.getTitle()).isNull();
+        assertThat(event.getContents()).isNull();
+        assertThat(event.getMainCategoryId()).isNull();
+        assertThat(event.getSubCategoryId()).isNull();
+        assertThat(event.getVersion()).isEqualTo(1L);
+        assertThat(event.getUpdatedAt()).isEqualTo(UPDATED_AT);
+        assertThat(unchangedSaved()).isEqualTo("title".length() + "contents".length());
+    }
+
+    @Test
+    void carriesOnlyFieldsThatDiffer() {
+        PostChanges changes = new PostChanges("new title", "contents", 3L, 2L, null);
+
+        PostUpdatedEvent event = factory.create(new PostUpdateResult(before, 1L, UPDATED_AT), changes);
+
+        assertThat(event.getTitle()).isEqualTo("new title");
+        assertThat(event.getContents()).isNull();
+        assertThat(event.getMainCategoryId()).isEqualTo(3L);
+        assertThat(event.getSubCategoryId()).isNull();
+        assertThat(unchangedSaved()).isEqualTo("contents".length());
+    }
+
+    @Test
+    void replacesLargeChangedContentsWithReference() {
+        String contents = "x".repeat(32);
+
+        PostUpdatedEvent event = factory.create(
+                new PostUpdateResult(before, 5L, UPDATED_AT), new PostChanges(null, contents, null, null, null));
+
+        assertThat(event.getContents()).isNull();
+        assertThat(event.getContentsRef()).isEqualTo("/api/v1/post/p1/contents?version=5");
+        assertThat(event.getContentsSize()).isEqualTo(32);
+    }
+
+    private double unchangedSaved() {
+        return meterRegistry.get("post.event.update.saved").tag("reason", "unchanged").summary().totalAmount();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.post_service.kafka.outbox;
+
+import com.example.post_service.kafka.producer.PostKafkaProducer;
+import com.example.post_service.post.entity.PostOutbox;
+import com.example.post_service.post.infrastructure.PostOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostOutboxRelayTest {
+
+    private final PostOutboxRepository postOutboxRepository = mock(PostOutboxRepository.class);
+    private final PostKafkaProducer postKafkaProducer = mock(PostKafkaProducer.class);
+
+    private final PostOutbox first = outbox("o1", 1, "e1");
+    private final PostOutbox second = outbox("o2", 2, "e2");
+
+    private PostOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(postOutboxRepository.tryAcquireRelayLease(any(), any())).thenReturn(true);
+        relay = new PostOutboxRelay(postOutboxRepository, postKafkaProducer, 10, Duration.ofMillis(50),
+                Duration.ofSeconds(15), Duration.ofMillis(1), Duration.ZERO, 3, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void waitsForTimedOutSendsBeforeReadingNextBatch() {
+        CompletableFuture<Object> firstAck = new CompletableFuture<>();
+        doReturn(firstAck).when(postKafkaProducer).send("p1", "e1");
+        doReturn(CompletableFuture.completedFuture(null)).when(postKafkaProducer).send("p1", "e2");
+        when(postOutboxRepository.findRelayBatch(anyInt()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(second))
+                .thenReturn(List.of());
+
+        relay.relay();
+        // 첫 이벤트의 ack 를 기다리는 동안 새 배치를 읽지도, 같은 게시글의 다음 이벤트를 보내지도 않는다.
+        relay.relay();
+        verify(postOutboxRepository, times(1)).findRelayBatch(anyInt());
+        verify(postKafkaProducer, never()).send("p1", "e2");
+        verify(postOutboxRepository, never()).deleteAllById(anyList());
+
+        firstAck.complete(null);
+        relay.relay();
+
+        verify(postOutboxRepository).deleteAllById(List.of("o1"));
+        verify(postKafkaProducer, times(1)).send("p1", "e1");
+        verify(postKafkaProducer, times(1)).send("p1", "e2");
+        verify(postOutboxRepository).deleteAllById(List.of("o2"));
+    }
+
+    @Test
+    void renewsLeaseDuringBackoffWhileSendsAreInFlight() {
+        relay = new PostOutboxRelay(postOutboxRepository, postKafkaProducer, 10, Duration.ofMillis(50),
+                Duration.ofSeconds(15), Duration.ofSeconds(1), Duration.ofSeconds(30), 3, new SimpleMeterRegistry());
+        doReturn(new CompletableFuture<>()).when(postKafkaProducer).send("p1", "e1");
+        when(postOutboxRepository.findRelayBatch(anyInt())).thenReturn(List.of(first));
+
+        relay.relay();
+        // 타임아웃으로 backoff 중이지만 보낸 전송이 남아 있으므로 주기마다 리스를 갱신한다.
+        relay.relay();
+        relay.relay();
+
+        verify(postOutboxRepository, times(3)).tryAcquireRelayLease(any(), any());
+        verify(postOutboxRepository, times(1)).findRelayBatch(anyInt());
+    }
+
+    @Test
+    void stopsStartingSendsOnceSendTimeoutHasPassed() {
+        PostOutbox otherPost = PostOutbox.of("p2", 1, "e3");
+        ReflectionTestUtils.setField(otherPost, "id", "o3");
+        // metadata/buffer 를 기다리느라 send-timeout 보다 오래 막힌 send
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return CompletableFuture.completedFuture(null);
+        }).when(postKafkaProducer).send("p1", "e1");
+        when(postOutboxRepository.findRelayBatch(anyInt())).thenReturn(List.of(first, otherPost));
+
+        relay.relay();
+
+        // 기한이 지난 뒤의 이벤트는 보내지 않고 outbox 에 남겨 다음 배치에서 보낸다.
+        verify(postKafkaProducer, never()).send("p2", "e3");
+        verify(postOutboxRepository).deleteAllById(List.of("o1"));
+    }
+
+    private static PostOutbox outbox(String id, long version, Object event) {
+        PostOutbox outbox = PostOutbox.of("p1", version, event);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.post_service.kafka.producer;
+
+import com.example.post_service.kafka.config.KafkaConfig;
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존(이벤트 타입별 producer 3개, key 없음, 기본 설정) vs 공용 producer(KafkaConfig) 전송 처리량 비교
+ * 내장 브로커 기준이라 절대값보다 두 방식의 상대 비교용이다.
+ *
+ * 실행: ./gradlew benchmark [-Dbenchmark.events=200000]
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 6, topics = {KafkaTopic.POST_CREATE, KafkaTopic.POST_UPDATE, KafkaTopic.POST_DELETE})
+class PostKafkaProducerBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final int POSTS = 10_000;
+    private static final String CONTENTS = "게시글 본문 ".repeat(80);
+
+    @Test
+    void compareLegacyAndSharedProducer(EmbeddedKafkaBroker broker) {
+        Result legacy = runLegacy(broker.getBrokersAsString());
+        Result shared = runShared(broker.getBrokersAsString());
+
+        System.out.printf("[legacy] %s%n[shared] %s%n", legacy, shared);
+        assertThat(legacy.sent()).isEqualTo(EVENTS);
+        assertThat(shared.sent()).isEqualTo(EVENTS);
+    }
+
+    /**
+     * 변경 전 KafkaConfig: 타입별 ProducerFactory/KafkaTemplate, key 없이 전송
+     */
+    private Result runLegacy(String bootstrapServers) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        List<KafkaTemplate<String, Object>> templates = List.of(
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props)),
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props)),
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props)));
+        return run(templates, (postUuid, event) -> templates.get(templateIndex(event))
+                .send(PostKafkaProducer.topicOf(event), event));
+    }
+
+    private Result runShared(String bootstrapServers) {
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServer", bootstrapServers);
+        ReflectionTestUtils.setField(kafkaConfig, "compressionType", "lz4");
+        ReflectionTestUtils.setField(kafkaConfig, "lingerMs", 10);
+        ReflectionTestUtils.setField(kafkaConfig, "batchSize", 65536);
+        ReflectionTestUtils.setField(kafkaConfig, "avroTopics", Set.of());
+        KafkaTemplate<String, Object> template =
+                kafkaConfig.postEventKafkaTemplate(kafkaConfig.postEventProducerFactory(new SimpleMeterRegistry()));
+        PostKafkaProducer producer = new PostKafkaProducer(template, new SimpleMeterRegistry());
+        return run(List.of(template), producer::send);
+    }
+
+    private Result run(
+            List<KafkaTemplate<String, Object>> templates,
+            BiFunction<String, Object, CompletableFuture<?>> sender
+    ) {
+        try {
+            // warm-up: 메타데이터/커넥션
+            send(sender, EVENTS / 10);
+            long bytesBefore = outgoingBytes(templates);
+            long startedAt = System.nanoTime();
+            send(sender, EVENTS);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            return new Result(EVENTS, elapsedNanos, outgoingBytes(templates) - bytesBefore);
+        } finally {
+            templates.forEach(template -> template.getProducerFactory().reset());
+        }
+    }
+
+    private void send(BiFunction<String, Object, CompletableFuture<?>> sender, int events) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            String postUuid = "post-" + (i % POSTS);
+            futures.add(sender.apply(postUuid, event(i, postUuid)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    // 생성 30%, 수정 60%, 삭제 10%
+    private Object event(int i, String postUuid) {
+        int bucket = i % 10;
+        if (bucket < 3) {
+            return PostCreatedEvent.builder()
+                    .postUuid(postUuid).memberUuid("member-" + (i % 1000))
+                    .mainCategoryId(1L).subCategoryId(2L)
+                    .title("제목 " + i).contents(CONTENTS)
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build();
+        }
+        if (bucket < 9) {
+            return PostUpdatedEvent.builder()
+                    .postUuid(postUuid).memberUuid("member-" + (i % 1000))
+                    .mainCategoryId(1L).subCategoryId(2L)
+                    .title("제목 " + i).contents(CONTENTS)
+                    .updatedAt(LocalDateTime.now()).version(i)
+                    .build();
+        }
+        return PostDeletedEvent.builder().postUuid(postUuid).version(i).build();
+    }
+
+    private int templateIndex(Object event) {
+        return switch (event) {
+            case PostCreatedEvent e -> 0;
+            case PostUpdatedEvent e -> 1;
+            default -> 2;
+        };
+    }
+
+    private long outgoingBytes(List<KafkaTemplate<String, Object>> templates) {
+        long bytes = 0;
+        for (KafkaTemplate<String, Object> template : templates) {
+            for (Map.Entry<MetricName, ? extends Metric> metric : template.metrics().entrySet()) {
+                if (metric.getKey().name().equals("outgoing-byte-total")
+                        && metric.getKey().group().equals("producer-metrics")) {
+                    bytes += ((Number) metric.getValue().metricValue()).longValue();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private record Result(int sent, long elapsedNanos, long outgoingBytes) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format("events=%d, elapsed=%.2fs, throughput=%.0f events/s, outgoing=%.1fMB",
+                    sent, seconds, sent / seconds, outgoingBytes / 1024.0 / 1024.0);
+        }
+    }
+}
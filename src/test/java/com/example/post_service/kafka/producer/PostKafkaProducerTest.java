@@ -0,0 +1,128 @@
+package com.example.post_service.kafka.producer;
+
+import com.example.post_service.kafka.config.KafkaConfig;
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.BufferExhaustedException;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("unchecked")
+class PostKafkaProducerTest {
+
+    private final KafkaTemplate<String, Object> template = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostKafkaProducer producer = new PostKafkaProducer(template, meterRegistry);
+
+    @Test
+    void sendsEveryEventTypeThroughOneTemplateKeyedByPostUuid() {
+        acknowledge();
+        PostCreatedEvent created = PostCreatedEvent.builder().postUuid("p1").build();
+        PostUpdatedEvent updated = PostUpdatedEvent.builder().postUuid("p1").version(1).build();
+        PostDeletedEvent deleted = PostDeletedEvent.builder().postUuid("p1").version(2).build();
+
+        producer.send("p1", created).join();
+        producer.send("p1", updated).join();
+        producer.send("p1", deleted).join();
+
+        verify(template).send(KafkaTopic.POST_CREATE, "p1", created);
+        verify(template).send(KafkaTopic.POST_UPDATE, "p1", updated);
+        verify(template).send(KafkaTopic.POST_DELETE, "p1", deleted);
+    }
+
+    @Test
+    void rejectsUnknownEventWithoutSending() {
+        CompletableFuture<?> result = producer.send("p1", "not an event");
+
+        assertThat(result).isCompletedExceptionally();
+        verify(template, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void recordsResultOnMetersRegisteredOnce() {
+        int meters = meterRegistry.getMeters().size();
+        acknowledge();
+        producer.send("p1", PostDeletedEvent.builder().postUuid("p1").build()).join();
+        producer.send("p2", PostDeletedEvent.builder().postUuid("p2").build()).join();
+        doReturn(CompletableFuture.failedFuture(new TimeoutException("ack timeout")))
+                .when(template).send(anyString(), anyString(), any());
+        producer.send("p3", PostDeletedEvent.builder().postUuid("p3").build());
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(timerCount(KafkaTopic.POST_DELETE, "success")).isEqualTo(2);
+        assertThat(timerCount(KafkaTopic.POST_DELETE, "failure")).isEqualTo(1);
+        assertThat(meterRegistry.get("post.kafka.send.size").tag("topic", KafkaTopic.POST_DELETE).summary().totalAmount())
+                .isEqualTo(2 * 42);
+        assertThat(meterRegistry.get("post.kafka.send.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void countsBufferExhaustionThrownFromSend() {
+        doThrow(new BufferExhaustedException("buffer full")).when(template).send(anyString(), anyString(), any());
+
+        CompletableFuture<?> result = producer.send("p1", PostCreatedEvent.builder().postUuid("p1").build());
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(meterRegistry.get("post.kafka.send.buffer.exhausted").tag("topic", KafkaTopic.POST_CREATE)
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.kafka.send.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void sharedProducerIsIdempotent() {
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServer", "localhost:9092");
+        ReflectionTestUtils.setField(kafkaConfig, "compressionType", "lz4");
+        ReflectionTestUtils.setField(kafkaConfig, "lingerMs", 10);
+        ReflectionTestUtils.setField(kafkaConfig, "batchSize", 65536);
+        ReflectionTestUtils.setField(kafkaConfig, "avroTopics", Set.of());
+
+        ProducerFactory<String, Object> factory = kafkaConfig.postEventProducerFactory(meterRegistry);
+
+        // in-flight 5 까지는 idempotence 가 파티션 안의 순서를 지킨다.
+        assertThat(factory.getConfigurationProperties()).contains(
+                entry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true),
+                entry(ProducerConfig.ACKS_CONFIG, "all"),
+                entry(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5));
+    }
+
+    private void acknowledge() {
+        doAnswer(invocation -> {
+            String topic = invocation.getArgument(0);
+            String key = invocation.getArgument(1);
+            Object event = invocation.getArgument(2);
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(topic, 0), 0, 0, 0L, key.length(), 42);
+            return CompletableFuture.completedFuture(
+                    new SendResult<>(new ProducerRecord<>(topic, key, event), metadata));
+        }).when(template).send(anyString(), anyString(), any());
+    }
+
+    private long timerCount(String topic, String result) {
+        return meterRegistry.get("post.kafka.send").tag("topic", topic).tag("result", result).timer().count();
+    }
+}
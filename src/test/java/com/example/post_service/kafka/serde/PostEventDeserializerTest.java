@@ -0,0 +1,89 @@
+package com.example.post_service.kafka.serde;
+
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostEventDeserializerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 30);
+
+    private final PostEventSerializer jsonSerializer = new PostEventSerializer(Set.of());
+    private final PostEventSerializer avroSerializer = new PostEventSerializer(
+            Set.of(KafkaTopic.POST_CREATE, KafkaTopic.POST_UPDATE, KafkaTopic.POST_DELETE));
+    private final PostEventDeserializer deserializer = new PostEventDeserializer();
+
+    @Test
+    void readsJsonAndAvroFromTheSameTopic() {
+        PostUpdatedEvent event = PostUpdatedEvent.builder()
+                .postUuid("p1").memberUuid("member")
+                .title("제목").updatedAt(NOW).version(3)
+                .build();
+
+        byte[] json = jsonSerializer.serialize(KafkaTopic.POST_UPDATE, new RecordHeaders(), event);
+        byte[] avro = avroSerializer.serialize(KafkaTopic.POST_UPDATE, new RecordHeaders(), event);
+
+        assertThat(PostEventAvroCodec.isAvro(json)).isFalse();
+        assertThat(PostEventAvroCodec.isAvro(avro)).isTrue();
+        for (byte[] payload : new byte[][]{json, avro}) {
+            PostUpdatedEvent decoded = (PostUpdatedEvent) deserializer.deserialize(KafkaTopic.POST_UPDATE, payload);
+            assertThat(decoded.getPostUuid()).isEqualTo("p1");
+            assertThat(decoded.getTitle()).isEqualTo("제목");
+            assertThat(decoded.getContents()).isNull();
+            assertThat(decoded.getVersion()).isEqualTo(3);
+            assertThat(decoded.getUpdatedAt()).isEqualTo(NOW);
+        }
+    }
+
+    @Test
+    void decodesJsonByTopicRegardlessOfTypeHeader() {
+        PostCreatedEvent event = PostCreatedEvent.builder()
+                .postUuid("p1").memberUuid("member")
+                .mainCategoryId(1L).subCategoryId(2L)
+                .title("제목").contents("본문")
+                .createdAt(NOW).updatedAt(NOW)
+                .build();
+        byte[] json = jsonSerializer.serialize(KafkaTopic.POST_CREATE, new RecordHeaders(), event);
+
+        assertThat(deserializer.deserialize(KafkaTopic.POST_CREATE, json))
+                .isInstanceOfSatisfying(PostCreatedEvent.class, decoded -> {
+                    assertThat(decoded.getContents()).isEqualTo("본문");
+                    assertThat(decoded.getCreatedAt()).isEqualTo(NOW);
+                });
+        // 다른 서비스가 타입 헤더 없이 보낸 JSON
+        byte[] deleted = "{\"postUuid\":\"p1\",\"version\":4}".getBytes(StandardCharsets.UTF_8);
+        assertThat(deserializer.deserialize(KafkaTopic.POST_DELETE, deleted))
+                .isInstanceOfSatisfying(PostDeletedEvent.class, decoded ->
+                        assertThat(decoded.getVersion()).isEqualTo(4));
+    }
+
+    @Test
+    void treatsPayloadWithoutFullAvroHeaderAsJson() {
+        assertThat(PostEventAvroCodec.isAvro(null)).isFalse();
+        assertThat(PostEventAvroCodec.isAvro(new byte[]{(byte) 0xC3, 0x01})).isFalse();
+        assertThat(PostEventAvroCodec.isAvro(new byte[]{(byte) 0xC3, 0x02, 0x00})).isFalse();
+
+        assertThatThrownBy(() -> deserializer.deserialize(KafkaTopic.POST_DELETE, new byte[]{(byte) 0xC3, 0x01}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void rejectsUnknownTopicAndReturnsNullForTombstone() {
+        byte[] json = "{\"postUuid\":\"p1\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> deserializer.deserialize("unknown-topic", json))
+                .isInstanceOf(SerializationException.class);
+        assertThat(deserializer.deserialize(KafkaTopic.POST_DELETE, null)).isNull();
+    }
+}
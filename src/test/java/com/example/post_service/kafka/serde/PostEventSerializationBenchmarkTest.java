@@ -0,0 +1,112 @@
+package com.example.post_service.kafka.serde;
+
+import com.example.post_service.kafka.config.KafkaTopic;
+import com.example.post_service.kafka.event.PostCreatedEvent;
+import com.example.post_service.kafka.event.PostDeletedEvent;
+import com.example.post_service.kafka.event.PostUpdatedEvent;
+import com.example.post_service.kafka.producer.PostKafkaProducer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 이벤트 JSON vs Avro: 메시지 크기, 직렬화/역직렬화 처리량 비교 (브로커 없이 serializer 만)
+ *
+ * 실행: ./gradlew benchmark --tests '*PostEventSerializationBenchmarkTest' [-Dbenchmark.events=200000]
+ */
+@Tag("benchmark")
+class PostEventSerializationBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final String CONTENTS = "게시글 본문 ".repeat(80);
+    private static final Set<String> ALL_TOPICS = Set.of(KafkaTopic.POST_CREATE, KafkaTopic.POST_UPDATE, KafkaTopic.POST_DELETE);
+
+    @Test
+    void compareJsonAndAvro() {
+        List<Object> events = events();
+
+        Result json = run("json", new PostEventSerializer(Set.of()), events);
+        Result avro = run("avro", new PostEventSerializer(ALL_TOPICS), events);
+
+        System.out.printf("%s%n%s%n", json, avro);
+        assertThat(avro.bytes()).isLessThan(json.bytes());
+    }
+
+    private Result run(String name, PostEventSerializer serializer, List<Object> events) {
+        PostEventDeserializer deserializer = new PostEventDeserializer();
+        List<byte[]> payloads = new ArrayList<>(events.size());
+
+        // warm-up
+        for (int i = 0; i < events.size() / 10; i++) {
+            Object event = events.get(i);
+            deserializer.deserialize(PostKafkaProducer.topicOf(event), serialize(serializer, event));
+        }
+
+        long bytes = 0;
+        long startedAt = System.nanoTime();
+        for (Object event : events) {
+            byte[] payload = serialize(serializer, event);
+            payloads.add(payload);
+            bytes += payload.length;
+        }
+        long serializeNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < events.size(); i++) {
+            Object decoded = deserializer.deserialize(PostKafkaProducer.topicOf(events.get(i)), payloads.get(i));
+            assertThat(decoded).isInstanceOf(events.get(i).getClass());
+        }
+        long deserializeNanos = System.nanoTime() - startedAt;
+
+        return new Result(name, events.size(), bytes, serializeNanos, deserializeNanos);
+    }
+
+    private byte[] serialize(PostEventSerializer serializer, Object event) {
+        return serializer.serialize(PostKafkaProducer.topicOf(event), new RecordHeaders(), event);
+    }
+
+    // 생성 30%, 수정 60%, 삭제 10%
+    private List<Object> events() {
+        List<Object> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            String postUuid = "post-" + (i % 10_000);
+            int bucket = i % 10;
+            if (bucket < 3) {
+                events.add(PostCreatedEvent.builder()
+                        .postUuid(postUuid).memberUuid("member-" + (i % 1000))
+                        .mainCategoryId(1L).subCategoryId(2L)
+                        .title("제목 " + i).contents(CONTENTS)
+                        .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                        .build());
+            } else if (bucket < 9) {
+                events.add(PostUpdatedEvent.builder()
+                        .postUuid(postUuid).memberUuid("member-" + (i % 1000))
+                        .mainCategoryId(1L).subCategoryId(2L)
+                        .title("제목 " + i).contents(CONTENTS)
+                        .updatedAt(LocalDateTime.now()).version(i)
+                        .build());
+            } else {
+                events.add(PostDeletedEvent.builder().postUuid(postUuid).version(i).build());
+            }
+        }
+        return events;
+    }
+
+    private record Result(String name, int events, long bytes, long serializeNanos, long deserializeNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] avg=%d bytes, total=%.1fMB, serialize=%.0f events/s, deserialize=%.0f events/s",
+                    name, bytes / events, bytes / 1024.0 / 1024.0,
+                    events / (serializeNanos / 1_000_000_000.0),
+                    events / (deserializeNanos / 1_000_000_000.0));
+        }
+    }
+}
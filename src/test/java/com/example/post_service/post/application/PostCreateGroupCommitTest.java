@@ -0,0 +1,162 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.post.dto.in.PostCreateReqDto;
+import com.example.post_service.post.entity.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostCreateGroupCommitTest {
+
+    private final PostCreateWriter postCreateWriter = mock(PostCreateWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private PostCreateGroupCommit groupCommit;
+
+    @BeforeEach
+    void setUp() {
+        when(postCreateWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<PostCreateReqDto> requests = invocation.getArgument(0);
+            return requests.stream().map(PostCreateReqDto::toEntity).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (groupCommit != null) {
+            groupCommit.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void flushesWhenWindowElapses() throws Exception {
+        start(Duration.ofMillis(200), 64, 1, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Post>> results = List.of(
+                create(request("p1")), create(request("p2")), create(request("p3")));
+
+        for (CompletableFuture<Post> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isNotNull();
+        }
+        verify(postCreateWriter, times(1)).insertAll(argThat(requests -> requests.size() == 3));
+        verify(postCreateWriter, never()).insert(any());
+    }
+
+    @Test
+    void flushesWhenBatchIsFullBeforeWindow() throws Exception {
+        start(Duration.ofSeconds(10), 2, 1, Duration.ofSeconds(30));
+
+        CompletableFuture<Post> first = create(request("p1"));
+        CompletableFuture<Post> second = create(request("p2"));
+
+        assertThat(first.get(2, TimeUnit.SECONDS).getPostUuid()).isEqualTo("p1");
+        assertThat(second.get(2, TimeUnit.SECONDS).getPostUuid()).isEqualTo("p2");
+        verify(postCreateWriter, times(1)).insertAll(argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    void writesAloneWhenNotBatchedWithinLatencyCap() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            List<PostCreateReqDto> requests = invocation.getArgument(0);
+            return requests.stream().map(PostCreateReqDto::toEntity).toList();
+        }).when(postCreateWriter).insertAll(anyList());
+        PostCreateReqDto waiting = request("p2");
+        when(postCreateWriter.insert(waiting)).thenReturn(waiting.toEntity());
+        start(Duration.ofMillis(1), 64, 1, Duration.ofMillis(50));
+
+        // 유일한 writer 가 첫 배치를 쓰는 동안 두 번째 요청은 배치에 담기지 못한다.
+        CompletableFuture<Post> first = create(request("p1"));
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Post> second = create(waiting);
+
+        assertThat(second.get(2, TimeUnit.SECONDS).getPostUuid()).isEqualTo("p2");
+        assertThat(meterRegistry.get("post.create.group-commit.bypassed").tag("reason", "latency-cap").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(2, TimeUnit.SECONDS).getPostUuid()).isEqualTo("p1");
+    }
+
+    @Test
+    void failsOnlyTheFailingRequestWhenBatchFails() throws Exception {
+        PostCreateReqDto good = request("good");
+        PostCreateReqDto bad = request("bad");
+        doThrow(new IllegalStateException("write error")).when(postCreateWriter).insertAll(anyList());
+        when(postCreateWriter.insert(good)).thenReturn(good.toEntity());
+        when(postCreateWriter.insert(bad)).thenThrow(new IllegalStateException("write error"));
+        start(Duration.ofSeconds(10), 2, 1, Duration.ofSeconds(30));
+
+        CompletableFuture<Post> goodResult = create(good);
+        CompletableFuture<Post> badResult = create(bad);
+
+        assertThat(goodResult.get(2, TimeUnit.SECONDS).getPostUuid()).isEqualTo("good");
+        assertThatThrownBy(() -> badResult.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failsCollectedBatchOnShutdown() throws Exception {
+        start(Duration.ofSeconds(10), 64, 1, Duration.ofSeconds(30));
+
+        CompletableFuture<Post> result = create(request("p1"));
+        // collector 가 요청을 배치에 담고 window 를 기다리는 중
+        await().atMost(Duration.ofSeconds(2))
+                .until(() -> meterRegistry.get("post.create.group-commit.queue.delay").timer().count() == 1);
+        groupCommit.stop();
+
+        assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BaseException.class);
+        verify(postCreateWriter, never()).insertAll(anyList());
+    }
+
+    private void start(Duration window, int maxBatchSize, int maxInFlight, Duration maxAddedLatency) {
+        groupCommit = new PostCreateGroupCommit(postCreateWriter, true, window, maxBatchSize, maxInFlight,
+                maxAddedLatency, 100, Duration.ofSeconds(5), meterRegistry);
+        groupCommit.start();
+    }
+
+    private CompletableFuture<Post> create(PostCreateReqDto request) {
+        return CompletableFuture.supplyAsync(() -> groupCommit.create(request), callers);
+    }
+
+    private static PostCreateReqDto request(String postUuid) {
+        return PostCreateReqDto.builder()
+                .postUuid(postUuid)
+                .memberUuid("member")
+                .mainCategoryId(1L)
+                .subCategoryId(2L)
+                .title("title " + postUuid)
+                .contents("contents " + postUuid)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.post_service.post.application;
+
+import com.example.post_service.common.exception.BaseException;
+import com.example.post_service.common.exception.VersionConflictException;
+import com.example.post_service.common.response.BaseResponseStatus;
+import com.example.post_service.post.dto.out.PostUpdateResDto;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostChanges;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostServiceRulesTest {
+
+    @Test
+    void retryOfAlreadyAppliedUpdateSucceedsWithCurrentVersion() {
+        PostChanges changes = new PostChanges("title", null, null, null, 2L);
+
+        PostUpdateResDto result = PostServiceRules.resolveUnmatchedUpdate(post(3L), "member", changes);
+
+        assertThat(result.getPostUuid()).isEqualTo("p1");
+        assertThat(result.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void staleVersionWithDifferentChangesConflictsWithCurrentVersion() {
+        PostChanges changes = new PostChanges("other title", null, null, null, 2L);
+
+        assertThatThrownBy(() -> PostServiceRules.resolveUnmatchedUpdate(post(3L), "member", changes))
+                .isInstanceOfSatisfying(VersionConflictException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(BaseResponseStatus.POST_VERSION_CONFLICT);
+                    assertThat(e.getCurrentVersion()).isEqualTo(3L);
+                });
+    }
+
+    @Test
+    void otherMembersUpdateIsDeniedBeforeVersionCheck() {
+        PostChanges changes = new PostChanges("title", null, null, null, 2L);
+
+        assertThatThrownBy(() -> PostServiceRules.resolveUnmatchedUpdate(post(3L), "other", changes))
+                .isInstanceOfSatisfying(BaseException.class, e ->
+                        assertThat(e.getStatus()).isEqualTo(BaseResponseStatus.POST_PERMISSION_DENIED));
+    }
+
+    @Test
+    void contentsOfAnotherVersionConflict() {
+        Post post = post(3L);
+
+        PostServiceRules.requireContentsVersion(post, null);
+        PostServiceRules.requireContentsVersion(post, 3L);
+        assertThatThrownBy(() -> PostServiceRules.requireContentsVersion(post, 2L))
+                .isInstanceOfSatisfying(VersionConflictException.class, e ->
+                        assertThat(e.getCurrentVersion()).isEqualTo(3L));
+    }
+
+    private static Post post(long version) {
+        Post post = Post.builder()
+                .postUuid("p1")
+                .memberUuid("member")
+                .title("title")
+                .contents("contents")
+                .build();
+        ReflectionTestUtils.setField(post, "version", version);
+        return post;
+    }
+}
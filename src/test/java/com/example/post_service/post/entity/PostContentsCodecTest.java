@@ -0,0 +1,55 @@
+package com.example.post_service.post.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostContentsCodecTest {
+
+    private static final String CONTENTS = "스프링 부트에서 몽고디비 트랜잭션을 사용하면 카프카 메시지가 중복으로 발행됩니다. 😀 ".repeat(50);
+
+    @Test
+    void roundTripsMultiByteContents() {
+        byte[] raw = CONTENTS.getBytes(StandardCharsets.UTF_8);
+
+        byte[] stored = PostContentsCodec.DEFLATE.encode(raw, 6);
+
+        assertThat(stored).isNotNull();
+        assertThat(stored.length).isLessThan(raw.length);
+        assertThat(PostContentsCodec.decodedLength(stored)).isEqualTo(raw.length);
+        assertThat(PostContentsCodec.decode(stored)).isEqualTo(CONTENTS);
+    }
+
+    @Test
+    void returnsNullWhenCompressionDoesNotShrink() {
+        byte[] raw = "짧은 본문".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PostContentsCodec.DEFLATE.encode(raw, 6)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownCodecAndTruncatedData() {
+        byte[] stored = PostContentsCodec.DEFLATE.encode(CONTENTS.getBytes(StandardCharsets.UTF_8), 6);
+
+        byte[] unknown = stored.clone();
+        unknown[0] = 0;
+        assertThatThrownBy(() -> PostContentsCodec.decode(unknown)).isInstanceOf(IllegalStateException.class);
+
+        byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+        assertThatThrownBy(() -> PostContentsCodec.decode(truncated)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void countsUtf8LengthWithoutEncoding() {
+        for (String value : new String[]{"", "ascii", "한글", "😀", "mixed 한글 😀 é"}) {
+            assertThat(PostContentsCodec.utf8Length(value))
+                    .as(value)
+                    .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        }
+        assertThat(PostContentsCodec.utf8Length(null)).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostUuids;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostBloomFilterTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final String existing = PostUuids.newPostUuid();
+
+    private PostBloomFilter postBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.countLivePosts()).thenReturn(1L);
+        when(postRepository.streamLivePostUuids(anyInt())).thenReturn(Stream.of(existing));
+        postBloomFilter = new PostBloomFilter(postRepository, 1000, 0.01, 100, Duration.ofMinutes(10),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void passesEverythingUntilBuilt() {
+        assertThat(postBloomFilter.mightContain(UUID.randomUUID().toString())).isTrue();
+    }
+
+    @Test
+    void answersNegativeForUnknownLegacyUuid() {
+        postBloomFilter.rebuild();
+
+        assertThat(postBloomFilter.mightContain(existing)).isTrue();
+        assertThat(postBloomFilter.mightContain(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void passesRecentPostUntilCreateEventsAreDeliveredPastIt() {
+        postBloomFilter.rebuild();
+        String createdElsewhere = PostUuids.newPostUuid();
+
+        assertThat(postBloomFilter.mightContain(createdElsewhere)).isTrue();
+
+        postBloomFilter.markDeliveredUntil(System.currentTimeMillis() + Duration.ofMinutes(11).toMillis());
+        assertThat(postBloomFilter.mightContain(createdElsewhere)).isFalse();
+    }
+
+    @Test
+    void readsCreationTimeOnlyFromVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        long createdAt = PostUuids.createdAtMillis(PostUuids.newPostUuid());
+
+        assertThat(createdAt).isBetween(before, System.currentTimeMillis());
+        assertThat(PostUuids.createdAtMillis(UUID.randomUUID().toString())).isEqualTo(-1);
+        assertThat(PostUuids.createdAtMillis("not-a-uuid")).isEqualTo(-1);
+    }
+}
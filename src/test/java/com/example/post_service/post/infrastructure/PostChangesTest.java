@@ -0,0 +1,70 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContentsCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostChangesTest {
+
+    @Test
+    void appliedWhenLaterVersionAlreadyHasEveryRequestedField() {
+        Post post = post(3L);
+
+        assertThat(new PostChanges("title", "contents", 1L, 2L, 2L).isAppliedTo(post)).isTrue();
+        assertThat(new PostChanges("title", null, null, null, 2L).isAppliedTo(post)).isTrue();
+    }
+
+    @Test
+    void notAppliedWhenAnyRequestedFieldDiffers() {
+        Post post = post(3L);
+
+        assertThat(new PostChanges("other", null, null, null, 2L).isAppliedTo(post)).isFalse();
+        assertThat(new PostChanges(null, "other", null, null, 2L).isAppliedTo(post)).isFalse();
+        assertThat(new PostChanges(null, null, 9L, null, 2L).isAppliedTo(post)).isFalse();
+        assertThat(new PostChanges(null, null, null, 9L, 2L).isAppliedTo(post)).isFalse();
+    }
+
+    @Test
+    void notAppliedUnlessStoredVersionIsNewerThanExpected() {
+        PostChanges changes = new PostChanges("title", null, null, null, 3L);
+
+        assertThat(changes.isAppliedTo(post(3L))).isFalse();
+        assertThat(changes.isAppliedTo(post(2L))).isFalse();
+    }
+
+    @Test
+    void notAppliedWithoutExpectedVersion() {
+        assertThat(new PostChanges("title", null, null, null, null).isAppliedTo(post(3L))).isFalse();
+    }
+
+    @Test
+    void comparesDecodedContentsOfCompressedPost() {
+        String contents = "contents ".repeat(100);
+        Post post = post(3L);
+        // 조회된 압축 문서: contents 없이 compressedContents 만 있음
+        ReflectionTestUtils.setField(post, "contents", null);
+        ReflectionTestUtils.setField(post, "compressedContents",
+                PostContentsCodec.DEFLATE.encode(contents.getBytes(StandardCharsets.UTF_8), 6));
+
+        assertThat(new PostChanges(null, contents, null, null, 2L).isAppliedTo(post)).isTrue();
+        assertThat(new PostChanges(null, "contents", null, null, 2L).isAppliedTo(post)).isFalse();
+    }
+
+    private static Post post(long version) {
+        Post post = Post.builder()
+                .postUuid("p1")
+                .memberUuid("member")
+                .mainCategoryId(1L)
+                .subCategoryId(2L)
+                .title("title")
+                .contents("contents")
+                .build();
+        ReflectionTestUtils.setField(post, "version", version);
+        return post;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.PostContentsCodec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 한국어 Q&A 본문으로 압축 저장 크기와 읽기(압축 해제) 처리량 비교
+ * 기준선은 문자열 그대로 저장했을 때의 UTF-8 크기 / UTF-8 디코딩 처리량
+ *
+ * 실행: ./gradlew benchmark --tests '*PostContentsCompressorBenchmarkTest' [-Dbenchmark.posts=20000]
+ */
+@Tag("benchmark")
+class PostContentsCompressorBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.posts", 20_000);
+    private static final String[] WORDS = {
+            "안녕하세요", "질문", "있습니다", "스프링", "부트", "에서", "몽고디비", "트랜잭션을", "사용하면",
+            "카프카", "메시지가", "중복으로", "발행되는", "것", "같은데", "왜", "그런지", "궁금합니다", "코드는",
+            "아래와", "같습니다", "답변", "부탁드립니다", "감사합니다", "혹시", "설정을", "바꿔야", "하나요",
+            "에러", "로그를", "보면", "타임아웃이", "발생합니다", "인덱스를", "추가했는데도", "느립니다",
+            "public", "class", "void", "return", "null", "@Transactional", "List<String>", "try", "catch"
+    };
+
+    @Test
+    void compareStoredSizeAndReadThroughput() {
+        PostContentsCompressor compressor =
+                new PostContentsCompressor(DataSize.ofKilobytes(1), 6, PostContentsCodec.DEFLATE);
+        List<String> corpus = corpus();
+
+        long plainBytes = 0;
+        long storedBytes = 0;
+        int compressedCount = 0;
+        List<byte[]> plain = new ArrayList<>(corpus.size());
+        List<byte[]> compressed = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+        for (String contents : corpus) {
+            byte[] raw = contents.getBytes(StandardCharsets.UTF_8);
+            byte[] stored = compressor.compress(contents);
+            plain.add(raw);
+            plainBytes += raw.length;
+            if (stored == null) {
+                storedBytes += raw.length;
+            } else {
+                compressed.add(stored);
+                storedBytes += stored.length;
+                compressedCount++;
+            }
+        }
+        long writeNanos = System.nanoTime() - startedAt;
+
+        long compressedRawBytes = 0;
+        startedAt = System.nanoTime();
+        for (byte[] stored : compressed) {
+            compressedRawBytes += PostContentsCodec.decode(stored).length();
+        }
+        long inflateNanos = System.nanoTime() - startedAt;
+
+        long plainChars = 0;
+        startedAt = System.nanoTime();
+        for (byte[] raw : plain) {
+            plainChars += new String(raw, StandardCharsets.UTF_8).length();
+        }
+        long utf8Nanos = System.nanoTime() - startedAt;
+
+        System.out.printf("posts=%d, compressed=%d, plain=%.1fMB, stored=%.1fMB (%.0f%%)%n",
+                corpus.size(), compressedCount, mb(plainBytes), mb(storedBytes), 100.0 * storedBytes / plainBytes);
+        System.out.printf("write(compress)=%.0f MB/s, read(inflate)=%.0f posts/s, read(plain utf-8)=%.0f posts/s%n",
+                mb(plainBytes) / seconds(writeNanos),
+                compressed.size() / seconds(inflateNanos),
+                plain.size() / seconds(utf8Nanos));
+
+        assertThat(storedBytes).isLessThan(plainBytes);
+        assertThat(compressedRawBytes).isPositive();
+        assertThat(plainChars).isPositive();
+    }
+
+    // 200B ~ 20KB 본문 (대부분 짧고 일부가 긴 분포)
+    private List<String> corpus() {
+        Random random = new Random(42);
+        List<String> corpus = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            int words = 40 + (int) (Math.pow(random.nextDouble(), 3) * 3000);
+            StringBuilder contents = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                contents.append(WORDS[random.nextInt(WORDS.length)]).append(w % 15 == 14 ? ".\n" : " ");
+            }
+            corpus.add(contents.toString());
+        }
+        return corpus;
+    }
+
+    private static double mb(long bytes) {
+        return bytes / 1024.0 / 1024.0;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContentsCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentsCompressorTest {
+
+    private final PostContentsCompressor compressor =
+            new PostContentsCompressor(DataSize.ofKilobytes(1), 6, PostContentsCodec.DEFLATE);
+
+    @Test
+    void compressesContentsOverThreshold() {
+        String contents = "몽고디비 인덱스를 추가했는데도 느립니다. ".repeat(100);
+
+        byte[] stored = compressor.compress(contents);
+
+        assertThat(stored).isNotNull();
+        assertThat(PostContentsCodec.decode(stored)).isEqualTo(contents);
+    }
+
+    @Test
+    void keepsContentsUnderThreshold() {
+        assertThat(compressor.compress(null)).isNull();
+        assertThat(compressor.compress("a".repeat(300))).isNull();
+        // char 수 * 3 으로는 기준을 넘지만 UTF-8 바이트는 기준 미만
+        assertThat(compressor.compress("a".repeat(1023))).isNull();
+    }
+
+    @Test
+    void keepsContentsThatDoNotShrink() {
+        PostContentsCompressor noThreshold =
+                new PostContentsCompressor(DataSize.ofBytes(1), 6, PostContentsCodec.DEFLATE);
+
+        assertThat(noThreshold.compress("짧은 본문")).isNull();
+    }
+
+    @Test
+    void compressesOnInsertOnlyOverThreshold() {
+        String contents = "카프카 메시지가 중복으로 발행되는 것 같은데 왜 그런지 궁금합니다. ".repeat(100);
+        Post compressible = post(contents);
+        Post small = post("짧은 본문");
+
+        compressor.onBeforeConvert(compressible, "post");
+        compressor.onBeforeConvert(small, "post");
+
+        assertThat(compressible.isContentsCompressed()).isTrue();
+        assertThat(compressible.getContents()).isEqualTo(contents);
+        assertThat(small.isContentsCompressed()).isFalse();
+        assertThat(small.getContents()).isEqualTo("짧은 본문");
+    }
+
+    private static Post post(String contents) {
+        return Post.builder()
+                .postUuid("p1")
+                .memberUuid("member")
+                .title("title")
+                .contents(contents)
+                .build();
+    }
+}
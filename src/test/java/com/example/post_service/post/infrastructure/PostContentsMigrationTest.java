@@ -0,0 +1,150 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostContents;
+import com.example.post_service.post.entity.PostContentsCodec;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostContentsMigrationTest {
+
+    private static final String LARGE_CONTENTS = "본문".repeat(4096);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final PostContentsOffloader postContentsOffloader = new PostContentsOffloader(
+            DataSize.ofKilobytes(8),
+            new PostContentsCompressor(DataSize.ofKilobytes(1), 6, PostContentsCodec.DEFLATE));
+    private final PostContentsMigration migration = new PostContentsMigration(
+            mongoTemplate, postContentsOffloader, mock(MongoTransactionManager.class), 10);
+
+    @Test
+    void offloadsOnlyIfVersionIsUnchangedAndNotYetOffloaded() {
+        Post post = post(LARGE_CONTENTS, 2L);
+        batches(List.of(post));
+        updateMatches(1);
+
+        migration.migrateBatch();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(Post.class));
+        Document condition = query.getValue().getQueryObject();
+        assertThat(condition.get("_id")).isEqualTo(new ObjectId(post.getId()));
+        assertThat(condition.get("version")).isEqualTo(2L);
+        assertThat(condition.get(PostContentsOffloader.OFFLOADED_SIZE_FIELD)).isEqualTo(new Document("$exists", false));
+        Document offload = update.getValue().getUpdateObject();
+        assertThat(offload.get("$set", Document.class).get(PostContentsOffloader.OFFLOADED_SIZE_FIELD))
+                .isEqualTo(LARGE_CONTENTS.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(offload.get("$unset", Document.class).keySet())
+                .containsExactlyInAnyOrder("contents", PostContentsCodec.FIELD);
+
+        ArgumentCaptor<PostContents> saved = ArgumentCaptor.forClass(PostContents.class);
+        verify(mongoTemplate).save(saved.capture());
+        assertThat(saved.getValue().getPostUuid()).isEqualTo(post.getPostUuid());
+        assertThat(saved.getValue().getContents()).isEqualTo(LARGE_CONTENTS);
+    }
+
+    @Test
+    void skipsPostChangedAfterRead() {
+        batches(List.of(post(LARGE_CONTENTS, 2L)));
+        // 읽은 뒤 수정되어 version 이 올라갔거나 쓰기 경로가 이미 분리함
+        updateMatches(0);
+
+        migration.migrateBatch();
+
+        verify(mongoTemplate, never()).save(any(PostContents.class));
+    }
+
+    @Test
+    void keepsCompressedFormAndReadsSizeFromHeader() {
+        byte[] raw = LARGE_CONTENTS.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = PostContentsCodec.DEFLATE.encode(raw, 6);
+        Post post = post(null, 1L);
+        ReflectionTestUtils.setField(post, "compressedContents", compressed);
+        batches(List.of(post));
+        updateMatches(1);
+
+        migration.migrateBatch();
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(Post.class));
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class)
+                .get(PostContentsOffloader.OFFLOADED_SIZE_FIELD)).isEqualTo(raw.length);
+        ArgumentCaptor<PostContents> saved = ArgumentCaptor.forClass(PostContents.class);
+        verify(mongoTemplate).save(saved.capture());
+        assertThat(saved.getValue().getCompressedContents()).isSameAs(compressed);
+    }
+
+    @Test
+    void ignoresSmallAndAlreadyOffloadedPosts() {
+        Post offloaded = post(null, 1L);
+        ReflectionTestUtils.setField(offloaded, "offloadedContentsSize", 20_000);
+        batches(List.of(post("짧은 본문", 1L), offloaded));
+
+        migration.migrateBatch();
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Post.class));
+    }
+
+    @Test
+    void retriesSameBatchAfterFailure() {
+        Post post = post(LARGE_CONTENTS, 2L);
+        doReturn(List.of(post)).when(mongoTemplate).find(any(Query.class), eq(Post.class));
+        doThrow(new DataAccessResourceFailureException("write conflict"))
+                .doReturn(UpdateResult.acknowledged(1, 1L, null))
+                .when(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(Post.class));
+
+        migration.migrateBatch();
+        migration.migrateBatch();
+
+        ArgumentCaptor<Query> reads = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(reads.capture(), eq(Post.class));
+        // 실패한 배치는 재개 위치를 넘기지 않으므로 두 번째 조회도 처음부터
+        assertThat(reads.getAllValues()).allSatisfy(read -> assertThat(read.getQueryObject()).isEmpty());
+        verify(mongoTemplate, times(1)).save(any(PostContents.class));
+    }
+
+    private void batches(List<Post> batch) {
+        doReturn(batch).doReturn(List.of()).when(mongoTemplate).find(any(Query.class), eq(Post.class));
+    }
+
+    private void updateMatches(long modified) {
+        doReturn(UpdateResult.acknowledged(modified, modified, null))
+                .when(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(Post.class));
+    }
+
+    private static Post post(String contents, long version) {
+        Post post = Post.builder()
+                .postUuid("p-" + new ObjectId())
+                .memberUuid("member")
+                .title("title")
+                .contents(contents)
+                .build();
+        ReflectionTestUtils.setField(post, "id", new ObjectId().toHexString());
+        ReflectionTestUtils.setField(post, "version", version);
+        return post;
+    }
+}
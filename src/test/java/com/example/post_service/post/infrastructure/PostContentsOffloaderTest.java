@@ -0,0 +1,41 @@
+package com.example.post_service.post.infrastructure;
+
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentsOffloaderTest {
+
+    private final RawBsonDocument inline = raw("{postUuid: 'p1', title: 't1', contents: 'small'}");
+    private final RawBsonDocument offloaded = raw("{postUuid: 'p2', title: 't2', offloadedContentsSize: 20000, updatedAt: 1}");
+    private final RawBsonDocument missing = raw("{postUuid: 'p3', title: 't3', offloadedContentsSize: 20000}");
+
+    @Test
+    void looksUpOnlyOffloadedPostsOfBatch() {
+        assertThat(PostContentsOffloader.offloadedPostUuids(List.of(inline, offloaded, missing)))
+                .containsExactly("p2", "p3");
+        assertThat(PostContentsOffloader.offloadedPostUuids(List.of(inline))).isEmpty();
+    }
+
+    @Test
+    void mergesContentsFoundForBatchInPlace() {
+        Map<String, RawBsonDocument> contents = Map.of("p2", raw("{_id: 'p2', _class: 'PostContents', contents: 'large'}"));
+
+        assertThat(PostContentsOffloader.mergeIfOffloaded(inline, contents)).isSameAs(inline);
+        assertThat(PostContentsOffloader.mergeIfOffloaded(offloaded, contents).keySet())
+                .containsExactly("postUuid", "title", "contents", "updatedAt");
+        assertThat(PostContentsOffloader.mergeIfOffloaded(offloaded, contents).getString("contents").getValue())
+                .isEqualTo("large");
+        // post_contents 가 없으면 본문 없이 내보낸다.
+        assertThat(PostContentsOffloader.mergeIfOffloaded(missing, contents).keySet())
+                .containsExactly("postUuid", "title");
+    }
+
+    private static RawBsonDocument raw(String json) {
+        return RawBsonDocument.parse(json);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.post_service.post.infrastructure;
+
+import com.example.post_service.PostServiceApplication;
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.entity.PostUuids;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostRepository 의 모든 쿼리 메서드를 실제로 실행하고, 드라이버가 보낸 명령(CommandListener 로 수집)을 그대로 explain 해
+ * winning plan 에 COLLSCAN 이 없는지 확인한다. 인덱스는 PostIndexInitializer 로 동기 생성한다.
+ * 쿼리 메서드를 추가하고 여기서 호출하지 않으면 coversEveryQueryMethod 가 실패한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class PostQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final String MEMBER_UUID = "member";
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private PostIndexInitializer postIndexInitializer;
+    @Autowired
+    private PostContentsOffloader postContentsOffloader;
+    @Autowired
+    private MongoTransactionManager mongoTransactionManager;
+    @Autowired
+    private CommandRecorder commandRecorder;
+
+    private final Set<String> invoked = ConcurrentHashMap.newKeySet();
+
+    private Post live;
+    private Post offloaded;
+
+    @BeforeEach
+    void setUp() {
+        postIndexInitializer.createIndexes();
+        live = postRepository.insertPost(post("contents"));
+        offloaded = postRepository.insertPost(post("x".repeat(16 * 1024)));
+        // 마이그레이션 대상: 분리 기준을 넘는 본문을 그대로 가진 기존 문서
+        mongoTemplate.insert(post("y".repeat(16 * 1024)));
+        commandRecorder.clear();
+    }
+
+    @Test
+    void everyPostQueryIsIndexBacked() {
+        drive(recording(postRepository));
+
+        List<String> collScans = new ArrayList<>();
+        for (BsonDocument command : commandRecorder.commands()) {
+            Document plan = mongoTemplate.getDb().runCommand(
+                    new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")));
+            if (containsCollScan(plan)) {
+                collScans.add(command.toJson());
+            }
+        }
+
+        assertThat(commandRecorder.commands()).isNotEmpty();
+        assertThat(collScans).isEmpty();
+    }
+
+    @Test
+    void coversEveryQueryMethod() {
+        drive(recording(postRepository));
+
+        Stream<Method> queryMethods = Stream.concat(
+                Arrays.stream(PostRepository.class.getDeclaredMethods()),
+                Arrays.stream(PostRepositoryCustom.class.getDeclaredMethods()));
+        assertThat(queryMethods.map(Method::getName)).allMatch(invoked::contains);
+    }
+
+    private void drive(PostRepository repository) {
+        String postUuid = live.getPostUuid();
+        PostCursor cursor = PostCursor.from(live);
+
+        repository.existsByPostUuid(postUuid);
+        repository.findByPostUuid(postUuid);
+        repository.findSummaryByPostUuid(postUuid);
+        repository.findContentsByPostUuid(postUuid);
+        repository.findVersionByPostUuid(postUuid);
+        repository.findAllSummaryByPostUuidIn(List.of(postUuid, offloaded.getPostUuid()));
+        repository.findRawDetailByPostUuid(offloaded.getPostUuid());
+        repository.insertPost(post("single"));
+        repository.insertPosts(List.of(post("bulk")));
+        repository.attachContents(List.of(repository.findByPostUuid(offloaded.getPostUuid()).orElseThrow()));
+
+        repository.countLivePosts();
+        try (Stream<String> postUuids = repository.streamLivePostUuids(10)) {
+            postUuids.forEach(uuid -> { });
+        }
+        try (Stream<Post> posts = repository.streamSearchablePosts(10)) {
+            posts.forEach(post -> { });
+        }
+
+        repository.findMainCategoryFeed(1L, null, 10);
+        repository.findMainCategoryFeed(1L, cursor, 10);
+        repository.findSubCategoryFeed(2L, null, 10);
+        repository.findSubCategoryFeed(2L, cursor, 10);
+        repository.findMemberPosts(MEMBER_UUID, null, 10);
+        repository.findMemberPosts(MEMBER_UUID, cursor, 10);
+        repository.countLivePostsByMemberUuid(MEMBER_UUID);
+
+        repository.updateOwnedPost(postUuid, MEMBER_UUID, new PostChanges("title", null, null, null, null));
+        repository.updateOwnedPost(postUuid, MEMBER_UUID, new PostChanges(null, "z".repeat(16 * 1024), null, null, 1L));
+        repository.updateOwnedPost(postUuid, MEMBER_UUID, new PostChanges(null, "small", 3L, 4L, 2L));
+
+        LocalDateTime updatedAfter = LocalDateTime.now().minusDays(1);
+        repository.exportRaw(new PostExportFilter(null, null, null, false), 10, raw -> { });
+        repository.exportRaw(new PostExportFilter(null, null, updatedAfter, true), 10, raw -> { });
+        repository.exportRaw(new PostExportFilter(1L, null, updatedAfter, false), 10, raw -> { });
+        repository.exportRaw(new PostExportFilter(null, 2L, null, false), 10, raw -> { });
+
+        repository.softDeleteOwnedPost(postUuid, MEMBER_UUID);
+
+        PostContentsMigration migration = new PostContentsMigration(
+                mongoTemplate, postContentsOffloader, mongoTransactionManager, 10);
+        migration.migrateBatch();
+        migration.migrateBatch();
+    }
+
+    // 호출한 쿼리 메서드 이름을 남긴다.
+    private PostRepository recording(PostRepository target) {
+        return (PostRepository) Proxy.newProxyInstance(
+                PostRepository.class.getClassLoader(),
+                new Class<?>[]{PostRepository.class},
+                (proxy, method, args) -> {
+                    invoked.add(method.getName());
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static Post post(String contents) {
+        LocalDateTime now = LocalDateTime.now();
+        return Post.builder()
+                .postUuid(PostUuids.newPostUuid())
+                .memberUuid(MEMBER_UUID)
+                .mainCategoryId(1L)
+                .subCategoryId(2L)
+                .title("title")
+                .contents(contents)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static boolean containsCollScan(Object node) {
+        if (node instanceof Document document) {
+            if ("COLLSCAN".equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(PostQueryPlanTest::containsCollScan);
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(PostQueryPlanTest::containsCollScan);
+        }
+        return false;
+    }
+
+    /**
+     * post / post_contents 대상의 explain 가능한 명령만 세션 필드를 빼고 복사해 둔다.
+     */
+    static class CommandRecorder implements CommandListener {
+
+        private static final Set<String> EXPLAINABLE = Set.of(
+                "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+        private static final Set<String> COLLECTIONS = Set.of("post", PostContentsOffloader.COLLECTION);
+        private static final Set<String> SESSION_FIELDS = Set.of(
+                "$db", "lsid", "$clusterTime", "$readPreference", "txnNumber", "startTransaction", "autocommit",
+                "readConcern", "writeConcern");
+
+        private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            String commandName = event.getCommandName();
+            BsonDocument source = event.getCommand();
+            if (!EXPLAINABLE.contains(commandName)
+                    || !source.isString(commandName)
+                    || !COLLECTIONS.contains(source.getString(commandName).getValue())) {
+                return;
+            }
+            // 이벤트의 명령 문서는 콜백이 끝나면 해제되므로 복사한다.
+            RawBsonDocument copy = new RawBsonDocument(source, new BsonDocumentCodec());
+            BsonDocument command = new BsonDocument();
+            copy.forEach((key, value) -> {
+                if (!SESSION_FIELDS.contains(key)) {
+                    command.put(key, value);
+                }
+            });
+            commands.add(command);
+        }
+
+        List<BsonDocument> commands() {
+            return commands;
+        }
+
+        void clear() {
+            commands.clear();
+        }
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = PostServiceApplication.class)
+    @Import({PostContentsCompressor.class, PostContentsOffloader.class, PostIndexInitializer.class})
+    static class Config {
+
+        @Bean
+        CommandRecorder commandRecorder() {
+            return new CommandRecorder();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandRecorderCustomizer(CommandRecorder commandRecorder) {
+            return builder -> builder.addCommandListener(commandRecorder);
+        }
+
+        @Bean
+        MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+            return new MongoTransactionManager(mongoDatabaseFactory);
+        }
+    }
+}
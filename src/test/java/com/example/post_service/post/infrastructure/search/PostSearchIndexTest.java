@@ -0,0 +1,73 @@
+package com.example.post_service.post.infrastructure.search;
+
+import com.example.post_service.post.entity.Post;
+import com.example.post_service.post.infrastructure.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexTest {
+
+    @Test
+    void editsBeforeRebuildDoNotSkewScores() {
+        PostSearchIndex fresh = index();
+        fresh.index(post("p1", "kafka outbox"));
+        fresh.index(post("p2", "mongo index"));
+        fresh.index(post("p3", "mongo transaction"));
+
+        PostSearchIndex edited = index();
+        edited.index(post("p1", "kafka outbox"));
+        edited.index(post("p2", "mongo index"));
+        edited.index(post("p3", "mongo transaction"));
+        // 수정마다 이전 docId 는 tombstone 으로 남는다.
+        for (int i = 0; i < 5; i++) {
+            edited.index(post("p1", "kafka outbox"));
+        }
+        edited.remove("p2");
+        edited.index(post("p2", "mongo index"));
+
+        List<PostSearchHit> expected = fresh.search("kafka mongo", null, null, 10);
+        List<PostSearchHit> hits = edited.search("kafka mongo", null, null, 10);
+
+        assertThat(hits).extracting(PostSearchHit::postUuid)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(PostSearchHit::postUuid).toList());
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.score()).isPositive());
+        assertThat(score(hits, "p1")).isEqualTo(score(expected, "p1"));
+        assertThat(score(hits, "p2")).isEqualTo(score(expected, "p2"));
+    }
+
+    @Test
+    void ignoresTermsOnlyInRemovedPosts() {
+        PostSearchIndex index = index();
+        index.index(post("p1", "kafka outbox"));
+        index.index(post("p2", "mongo index"));
+        index.remove("p1");
+
+        assertThat(index.search("kafka", null, null, 10)).isEmpty();
+        assertThat(index.search("kafka mongo", null, null, 10)).extracting(PostSearchHit::postUuid)
+                .containsExactly("p2");
+    }
+
+    private static PostSearchIndex index() {
+        return new PostSearchIndex(mock(PostRepository.class), 100, new SimpleMeterRegistry());
+    }
+
+    private static double score(List<PostSearchHit> hits, String postUuid) {
+        return hits.stream().filter(hit -> hit.postUuid().equals(postUuid)).findFirst().orElseThrow().score();
+    }
+
+    private static Post post(String postUuid, String title) {
+        return Post.builder()
+                .postUuid(postUuid)
+                .memberUuid("member")
+                .mainCategoryId(1L)
+                .subCategoryId(2L)
+                .title(title)
+                .contents(title)
+                .build();
+    }
+}